@@ -11,6 +11,7 @@ plugins {
     `maven-publish`
     alias(libs.plugins.shadow) apply false
     alias(libs.plugins.lombok) apply false
+    id("org.graalvm.buildtools.native") version "0.10.3" apply false
 }
 
 //  ─────────────────────────────────────────────
@@ -0,0 +1,57 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.codec;
+
+import de.leycm.flux.event.Event;
+import de.leycm.flux.exception.EventProcessException;
+import lombok.NonNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary serializer for {@link Event} instances.
+ * <p>
+ * A codec writes events directly into a caller supplied {@link ByteBuffer} and reads them
+ * back from one. The encoded form must carry enough type information for
+ * {@link #decode(ByteBuffer)} to reconstruct the concrete event class. Codecs are used by
+ * every component that moves events off-heap or out of the process, such as journals and
+ * bridges.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+public interface EventCodec {
+
+    /**
+     * Writes the given event at the current position of the buffer and advances the
+     * position past the written bytes.
+     *
+     * @param event  the event to encode
+     * @param buffer the target buffer
+     * @throws BufferOverflowException if the buffer has not enough remaining space
+     * @throws EventProcessException   if the event type is not supported by this codec
+     */
+    void encode(final @NonNull Event event, final @NonNull ByteBuffer buffer)
+            throws BufferOverflowException, EventProcessException;
+
+    /**
+     * Reads one event starting at the current position of the buffer and advances the
+     * position past the read bytes.
+     *
+     * @param buffer the source buffer
+     * @return the decoded event, never {@code null}
+     * @throws EventProcessException if the buffer does not contain a valid encoded event
+     */
+    @NonNull Event decode(final @NonNull ByteBuffer buffer) throws EventProcessException;
+
+}
@@ -24,6 +24,9 @@ import java.time.Instant;
  * @since 1.0.1
  * @see Cancelable
  * @see Monitorable
+ * @see Viewable
+ * @see Immutable
+ * @see Sticky
  */
 public interface Event {
 
@@ -59,17 +62,37 @@ public interface Event {
     /**
      * Checks if this event supports monitoring.
      * <p>
-     * An event is monitorable if it implements the {@link Monitorable} interface.
-     * Monitorable events can create copies for observation without affecting the original event.
+     * An event is monitorable if it implements {@link Viewable} or {@link Monitorable}, or if
+     * it is {@link Immutable#isImmutable(Class) immutable}. Such events can be observed
+     * without affecting the original event.
      * </p>
      *
-     * @return {@code true} if this event implements {@link Monitorable}, {@code false} otherwise
+     * @return {@code true} if this event can be passed to MONITOR handlers, {@code false} otherwise
      * @author LeyCM
      * @since 1.0.1
+     * @see Immutable
+     * @see Viewable
      * @see Monitorable
      */
     default boolean isMonitorable() {
-        return this instanceof Monitorable;
+        return this instanceof Viewable || this instanceof Monitorable || Immutable.isImmutable(getClass());
+    }
+
+    /**
+     * Checks if this event is sticky.
+     * <p>
+     * An event is sticky if it implements the {@link Sticky} interface.
+     * The latest instance of a sticky event type is cached by the bus and delivered to
+     * handlers registered after it was fired.
+     * </p>
+     *
+     * @return {@code true} if this event implements {@link Sticky}, {@code false} otherwise
+     * @author LeyCM
+     * @since 1.0.6
+     * @see Sticky
+     */
+    default boolean isSticky() {
+        return this instanceof Sticky;
     }
 
     /**
@@ -0,0 +1,57 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.event;
+
+import java.lang.reflect.RecordComponent;
+import java.time.Instant;
+
+/**
+ * Marker interface for events whose state cannot change after construction.
+ * MONITOR handlers receive immutable events themselves instead of a view or copy,
+ * so observing them allocates nothing, even if they are also {@link Viewable} or
+ * {@link Monitorable}.
+ * <p>
+ * Records that are not {@link Cancelable} and only have components of primitive,
+ * {@link String}, {@link Instant} or enum type are treated as immutable without
+ * implementing this interface, unless they are {@link Viewable} or {@link Monitorable}.
+ * Records with other components may hold mutable state and must implement this
+ * interface to be shared.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ * @see de.leycm.flux.handler.HandlerPriority#MONITOR
+ */
+public interface Immutable {
+
+    /**
+     * Checks if instances of the given class can be passed to MONITOR handlers as they are,
+     * either because the class implements this interface or because it is a record whose
+     * components are all of a known immutable type.
+     *
+     * @param type the event class
+     * @return {@code true} if instances of the class are immutable, {@code false} otherwise
+     * @author LeyCM
+     * @since 1.0.6
+     */
+    static boolean isImmutable(final Class<?> type) {
+        if (Immutable.class.isAssignableFrom(type)) return true;
+        if (!type.isRecord() || Cancelable.class.isAssignableFrom(type)) return false;
+
+        for (RecordComponent component : type.getRecordComponents()) {
+            Class<?> componentType = component.getType();
+            if (!componentType.isPrimitive() && !componentType.isEnum()
+                    && componentType != String.class && componentType != Instant.class) return false;
+        }
+        return true;
+    }
+
+}
@@ -13,11 +13,14 @@ package de.leycm.flux.event;
 /**
  * Interface for events that can be monitored.
  * Monitorable events can create copies of themselves for read-only observation.
+ * The copy is used for events that are neither explicitly {@link Immutable} nor
+ * {@link Viewable}, and takes precedence over sharing records as they are.
  *
  * @param <E> the type of event that implements this interface, must extend {@link Event}
  * @author LeyCM
  * @since 1.0.1
  * @see Event
+ * @see Viewable
  */
 public interface Monitorable<E extends Event> {
 
@@ -0,0 +1,66 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.event;
+
+/**
+ * Interface for events that ask the handlers a question instead of announcing something.
+ * Dispatch of a query stops at the first handler, in priority order, that provides a result.
+ *
+ * @param <R> the type of the result
+ * @author LeyCM
+ * @since 1.0.6
+ * @see de.leycm.flux.registry.EventExecutorBus#query(QueryEvent)
+ */
+public interface QueryEvent<R> extends Event {
+
+    /**
+     * Sets the result of this query.
+     * Asynchronous queries set the winning result once, possibly from another thread, so
+     * implementations must publish it safely, for example through a {@code volatile} field.
+     *
+     * @param result the result, {@code null} to withdraw a previously set result
+     */
+    void setResult(R result);
+
+    /**
+     * Returns the result of this query.
+     *
+     * @return the result, or {@code null} if no handler provided one yet
+     */
+    R getResult();
+
+    /**
+     * Checks if a handler already provided a result.
+     *
+     * @return {@code true} if a result is set, {@code false} otherwise
+     * @author LeyCM
+     * @since 1.0.6
+     */
+    default boolean hasResult() {
+        return getResult() != null;
+    }
+
+    /**
+     * Answers this query with the given result.
+     * During {@link de.leycm.flux.registry.EventExecutorBus#queryAsync asynchronous dispatch}
+     * the result goes to the calling handler's own {@link QuerySlot}, otherwise this is
+     * equivalent to {@code setResult(result)}. Handlers should answer through this method so
+     * they work with both kinds of dispatch.
+     *
+     * @param result the result
+     * @author LeyCM
+     * @since 1.0.6
+     */
+    default void respond(final R result) {
+        if (!QuerySlot.fill(this, result)) setResult(result);
+    }
+
+}
@@ -0,0 +1,97 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.event;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Result slot of a single handler during asynchronous query dispatch.
+ * <p>
+ * While a slot is open on the current thread, {@link QueryEvent#respond(Object)} for its
+ * query fills the slot instead of the shared event, so handlers running concurrently never
+ * observe or overwrite each other's answers. Slots are opened by the event bus around each
+ * handler call and must be closed on the same thread.
+ * </p>
+ *
+ * @param <R> the type of the result
+ * @author LeyCM
+ * @since 1.0.6
+ * @see de.leycm.flux.registry.EventExecutorBus#queryAsync(QueryEvent, java.util.concurrent.Executor)
+ */
+public final class QuerySlot<R> implements AutoCloseable {
+
+    private static final ThreadLocal<QuerySlot<?>> CURRENT = new ThreadLocal<>();
+
+    private final QueryEvent<R> event;
+    private final QuerySlot<?> previous;
+    private R result;
+
+    private QuerySlot(final @NotNull QueryEvent<R> event, final QuerySlot<?> previous) {
+        this.event = event;
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a new slot for the given query on the current thread.
+     *
+     * @param event the query answered into the slot, must not be {@code null}
+     * @param <R>   the type of the result
+     * @return the opened slot
+     * @throws NullPointerException if {@code event} is {@code null}
+     */
+    public static <R> @NotNull QuerySlot<R> open(final @NotNull QueryEvent<R> event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        QuerySlot<R> slot = new QuerySlot<>(event, CURRENT.get());
+        CURRENT.set(slot);
+        return slot;
+    }
+
+    /**
+     * Checks if the handler answered into this slot.
+     *
+     * @return {@code true} if a result is set, {@code false} otherwise
+     */
+    public boolean isAnswered() {
+        return result != null;
+    }
+
+    /**
+     * Returns the result the handler answered into this slot.
+     *
+     * @return the result, or {@code null} if the handler did not answer
+     */
+    public R getResult() {
+        return result;
+    }
+
+    /**
+     * Closes this slot and restores the slot that was open before it.
+     */
+    @Override
+    public void close() {
+        if (previous == null) CURRENT.remove();
+        else CURRENT.set(previous);
+    }
+
+    // ==================== Internal Methods ====================
+
+    @SuppressWarnings("unchecked")
+    static <R> boolean fill(final @NotNull QueryEvent<R> event, final R result) {
+        QuerySlot<?> slot = CURRENT.get();
+        if (slot == null || slot.event != event) return false;
+
+        ((QuerySlot<R>) slot).result = result;
+        return true;
+    }
+
+}
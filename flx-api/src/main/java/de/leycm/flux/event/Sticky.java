@@ -0,0 +1,22 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.event;
+
+/**
+ * Marker interface for sticky events.
+ * The bus keeps the latest dispatched instance of every sticky event type and delivers it
+ * to handlers that are registered later, so they can pick up state they would otherwise miss.
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ * @see de.leycm.flux.registry.EventExecutorBus#getSticky(Class)
+ */
+public interface Sticky { }
@@ -0,0 +1,35 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.event;
+
+/**
+ * Interface for events that provide read-only views of themselves.
+ * A view is passed to MONITOR handlers instead of a {@link Monitorable#copy() copy},
+ * so observing the event costs one small wrapper instead of a deep copy.
+ *
+ * @param <E> the type of event that implements this interface, must extend {@link Event}
+ * @author LeyCM
+ * @since 1.0.6
+ * @see de.leycm.flux.handler.HandlerPriority#MONITOR
+ */
+public interface Viewable<E extends Event> {
+
+    /**
+     * Creates a read-only view of this event.
+     * The view must be an instance of this event's class, pass all reads through to this
+     * event and reject all modifications with an {@link UnsupportedOperationException}.
+     *
+     * @return a read-only view of this event
+     * @author LeyCM
+     * @since 1.0.6
+     */
+    E view();
+}
@@ -14,11 +14,13 @@ import de.leycm.flux.event.Monitorable;
 import lombok.NonNull;
 
 /**
- * Exception thrown when attempting to monitor an event that does not implement {@link Monitorable}.
+ * Exception thrown when attempting to monitor an event that does not implement {@link Monitorable}
+ * and cannot be observed otherwise.
  *
  * @author LeyCM
  * @since 1.0.1
  * @see Monitorable
+ * @see de.leycm.flux.event.Event#isMonitorable()
  */
 public class NotMonitorableException extends RuntimeException {
 
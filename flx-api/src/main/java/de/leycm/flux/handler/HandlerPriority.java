@@ -35,7 +35,8 @@ public enum HandlerPriority {
     LATE,
 
     /**
-     * Monitor level - handlers with this level only receive copies of events for observation.
+     * Monitor level - handlers with this level only receive immutable events, read-only views
+     * or copies of events for observation.
      * No modifications to the event state are allowed at this level.
      */
     MONITOR;
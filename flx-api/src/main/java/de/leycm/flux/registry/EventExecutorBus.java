@@ -11,6 +11,7 @@
 package de.leycm.flux.registry;
 
 import de.leycm.flux.event.Event;
+import de.leycm.flux.event.QueryEvent;
 import de.leycm.flux.exception.EventProcessException;
 import de.leycm.flux.exception.HandlerRegistrationException;
 import de.leycm.flux.handler.HandlerList;
@@ -18,6 +19,15 @@ import de.leycm.neck.instance.Initializable;
 import lombok.NonNull;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * Centralized event dispatching system that manages registration,
@@ -33,11 +43,17 @@ import org.jetbrains.annotations.NotNull;
  * bus.register(myHandlerList);
  * bus.fire(myEvent);
  * </pre>
+ * <p>
+ * Only the core registry methods are abstract. All methods added since 1.0.6 have a default
+ * implementation, so existing implementations keep compiling: methods with a meaningful
+ * fallback delegate to the core methods, queries of optional features report that nothing
+ * is there, and operations that cannot be honored throw {@link UnsupportedOperationException}.
+ * </p>
  *
  * @author LeyCM
  * @since 1.0.1
  */
-public interface EventExecutorBus extends Initializable {
+public interface EventExecutorBus extends Initializable, AutoCloseable {
 
     /**
      * Returns the singleton instance of the EventExecutorBus.
@@ -63,6 +79,204 @@ public interface EventExecutorBus extends Initializable {
      */
     void fire(final @NotNull Event event) throws EventProcessException;
 
+    /**
+     * Schedules the specified event to be fired after the given delay.
+     * <p>
+     * Scheduled events are fired on a shared timer thread through {@link #fire(Event)}.
+     * Failures of handlers are reported to that thread's uncaught exception handler.
+     * </p>
+     *
+     * @param event the event instance to fire, must not be {@code null}
+     * @param delay the delay after which the event is fired, must not be {@code null}
+     * @return a handle to cancel the scheduled firing
+     * @throws IllegalArgumentException      if {@code event} or {@code delay} is {@code null}
+     * @throws UnsupportedOperationException if this bus has no timer, as in the default implementation
+     */
+    default @NotNull ScheduledEvent fireLater(final @NotNull Event event, final @NotNull Duration delay) {
+        throw new UnsupportedOperationException("Delayed firing is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Schedules the specified event to be fired at the given instant.
+     * Instants in the past fire the event as soon as possible.
+     *
+     * @param event   the event instance to fire, must not be {@code null}
+     * @param instant the point in time at which the event is fired, must not be {@code null}
+     * @return a handle to cancel the scheduled firing
+     * @throws IllegalArgumentException      if {@code event} or {@code instant} is {@code null}
+     * @throws UnsupportedOperationException if this bus has no timer
+     * @see #fireLater(Event, Duration)
+     */
+    default @NotNull ScheduledEvent fireAt(final @NotNull Event event, final @NotNull Instant instant) {
+        Objects.requireNonNull(instant, "Instant cannot be null");
+
+        Duration delay = Duration.between(Instant.now(), instant);
+        return fireLater(event, delay.isNegative() ? Duration.ZERO : delay);
+    }
+
+    /**
+     * Buffers the specified event until the next {@link #flush()}.
+     * <p>
+     * Every thread posts into its own buffer, so posting does not contend with other
+     * threads and never runs handlers. The default implementation has no buffer and fires
+     * the event immediately.
+     * </p>
+     *
+     * @param event the event instance to post, must not be {@code null}
+     * @throws IllegalArgumentException if {@code event} is {@code null}
+     */
+    default void post(final @NotNull Event event) {
+        fire(event);
+    }
+
+    /**
+     * Fires all events posted to this bus on the calling thread.
+     * <p>
+     * Events are grouped by type, with types in the order of their class names. Within a
+     * type, the events of each posting thread keep their posting order. Events posted while
+     * flushing are left for the next flush. If handlers fail, the remaining events are still
+     * fired and the first failure is rethrown afterwards. The default implementation has
+     * nothing buffered and returns {@code 0}.
+     * </p>
+     *
+     * @return the number of fired events
+     * @throws EventProcessException if an error occurs during event handling
+     */
+    default int flush() throws EventProcessException {
+        return 0;
+    }
+
+    /**
+     * Dispatches the specified event directly to the registered handlers,
+     * bypassing all {@link EventStage stages} of this bus.
+     * <p>
+     * This is meant for infrastructure that re-injects events which already passed the
+     * pipeline once, for example journal replay or events received from another bus.
+     * The default implementation is for buses without stages and delegates to
+     * {@link #fire(Event)}.
+     * </p>
+     *
+     * @param event the event instance to dispatch, must not be {@code null}
+     * @throws IllegalArgumentException if {@code event} is {@code null}
+     * @throws EventProcessException     if an error occurs during event handling
+     */
+    default void dispatch(final @NotNull Event event) throws EventProcessException {
+        fire(event);
+    }
+
+    /**
+     * Dispatches the given query to the registered handlers in priority order and stops at
+     * the first handler that provides a result.
+     * <p>
+     * Queries bypass all {@link EventStage stages} and are not delivered to
+     * {@link de.leycm.flux.handler.HandlerPriority#MONITOR MONITOR} handlers. The default
+     * implementation cannot stop early: it fires the query to all handlers and returns the
+     * result left on the event.
+     * </p>
+     *
+     * @param event the query to dispatch, must not be {@code null}
+     * @param <R>   the result type
+     * @return the first result, or an empty optional if no handler answered
+     * @throws IllegalArgumentException if {@code event} is {@code null}
+     * @throws EventProcessException     if an error occurs during event handling
+     */
+    default <R> @NotNull Optional<R> query(final @NotNull QueryEvent<R> event) throws EventProcessException {
+        fire(event);
+        return Optional.ofNullable(event.getResult());
+    }
+
+    /**
+     * Dispatches the given query to all handlers concurrently on the given executor and
+     * completes with the first result provided.
+     * <p>
+     * Each handler answers into its own {@link de.leycm.flux.event.QuerySlot QuerySlot}
+     * through {@link QueryEvent#respond(Object)}; the first answer is set on the event and
+     * completes the future. Handlers that have not started once a result is known are
+     * skipped. If no handler answers, the future completes with an empty optional, or
+     * exceptionally with the first handler failure or executor rejection. The default
+     * implementation runs {@link #query(QueryEvent)} as a single task on the executor.
+     * </p>
+     *
+     * @param event    the query to dispatch, must not be {@code null}
+     * @param executor the executor running the handlers, must not be {@code null}
+     * @param <R>      the result type
+     * @return a future of the first result
+     * @throws IllegalArgumentException if {@code event} or {@code executor} is {@code null}
+     */
+    default <R> @NotNull CompletableFuture<Optional<R>> queryAsync(final @NotNull QueryEvent<R> event,
+                                                                  final @NotNull Executor executor) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+
+        return CompletableFuture.supplyAsync(() -> query(event), executor);
+    }
+
+    /**
+     * Limits how many events of the given type are fired per second.
+     * <p>
+     * The limit is enforced by {@link #fire(Event)} with a lock-free token bucket that admits
+     * {@code burst} events at once and refills at {@code permitsPerSecond}. Events beyond
+     * the limit are handled according to the given {@link OverloadPolicy}. Setting a limit
+     * for a type that already has one replaces it and resets its shed counter.
+     * </p>
+     *
+     * @param eventType        the exact event class to limit, must not be {@code null}
+     * @param permitsPerSecond the sustained number of events per second, must be positive
+     * @param burst            the number of events admitted at once, must be positive
+     * @param policy           the policy for events over the limit, must not be {@code null}
+     * @throws IllegalArgumentException      if {@code permitsPerSecond} or {@code burst} is not positive
+     * @throws UnsupportedOperationException if this bus does not support rate limits, as in the
+     *                                       default implementation
+     */
+    default void setRateLimit(final @NotNull Class<? extends Event> eventType,
+                              final int permitsPerSecond,
+                              final int burst,
+                              final @NotNull OverloadPolicy policy) {
+        throw new UnsupportedOperationException("Rate limits are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Removes the rate limit of the given event type.
+     *
+     * @param eventType the event class
+     * @return {@code true} if the type was limited, otherwise {@code false}
+     */
+    default boolean removeRateLimit(final @NotNull Class<? extends Event> eventType) {
+        return false;
+    }
+
+    /**
+     * Returns the number of events of the given type that were dropped or canceled because
+     * they exceeded the rate limit.
+     *
+     * @param eventType the event class
+     * @return the shed count, or {@code 0} if the type is not limited
+     */
+    default long getShedCount(final @NotNull Class<? extends Event> eventType) {
+        return 0;
+    }
+
+    /**
+     * Appends a stage to the pipeline that every fired event passes before dispatch.
+     *
+     * @param stage the stage to add, must not be {@code null}
+     * @throws IllegalArgumentException      if {@code stage} is {@code null}
+     * @throws UnsupportedOperationException if this bus has no pipeline, as in the default implementation
+     */
+    default void addStage(final @NotNull EventStage stage) {
+        throw new UnsupportedOperationException("Stages are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Removes a previously added stage from the pipeline.
+     *
+     * @param stage the stage to remove
+     * @return {@code true} if the stage was part of the pipeline, otherwise {@code false}
+     */
+    default boolean removeStage(final @NotNull EventStage stage) {
+        return false;
+    }
+
     /**
      * Registers all handlers in the given {@link HandlerList}.
      *
@@ -72,6 +286,50 @@ public interface EventExecutorBus extends Initializable {
      */
     void register(final @NotNull HandlerList list) throws HandlerRegistrationException;
 
+    /**
+     * Registers all handlers in the given {@link HandlerList} while only holding a weak
+     * reference to it.
+     * <p>
+     * Once the list is no longer strongly reachable it is garbage collected and its handlers
+     * stop receiving events. The bus prunes the handlers of collected lists incrementally
+     * during later registry operations, so forgetting to {@link #unregister(HandlerList)}
+     * a weakly registered list does not leak it.
+     * </p>
+     *
+     * @param list the handler list to register, must not be {@code null}
+     * @throws IllegalArgumentException      if {@code list} is {@code null}
+     * @throws HandlerRegistrationException  if a handler method fails registration
+     * @throws UnsupportedOperationException if this bus cannot hold lists weakly, as in the
+     *                                       default implementation
+     */
+    default void registerWeakly(final @NotNull HandlerList list) throws HandlerRegistrationException {
+        throw new UnsupportedOperationException("Weak registration is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Registers all handlers of the given {@link HandlerList} class without creating it.
+     * <p>
+     * The handlers are indexed from the class alone. The supplier is called once, the first
+     * time an event is dispatched to one of the handlers, so lists that never receive an
+     * event are never created. The default implementation creates the list right away and
+     * delegates to {@link #register(HandlerList)}.
+     * </p>
+     *
+     * @param listClass the handler list class to register, must not be {@code null}
+     * @param supplier  the supplier creating the handler list, must not be {@code null}
+     * @param <T>       the handler list type
+     * @throws IllegalArgumentException     if {@code listClass} or {@code supplier} is {@code null}
+     * @throws HandlerRegistrationException if a handler method fails registration
+     */
+    default <T extends HandlerList> void register(final @NotNull Class<T> listClass,
+                                                  final @NotNull Supplier<? extends T> supplier)
+            throws HandlerRegistrationException {
+        Objects.requireNonNull(listClass, "HandlerList class cannot be null");
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
+
+        register(listClass.cast(Objects.requireNonNull(supplier.get(), "Supplied HandlerList cannot be null")));
+    }
+
     /**
      * Unregisters all handlers in the given {@link HandlerList}.
      *
@@ -80,6 +338,19 @@ public interface EventExecutorBus extends Initializable {
      */
     void unregister(final @NotNull HandlerList list);
 
+    /**
+     * Unregisters all handlers of the given {@link HandlerList} class.
+     *
+     * @param listClass the handler list class to unregister, must not be {@code null}
+     * @throws IllegalArgumentException      if {@code listClass} is {@code null}
+     * @throws HandlerRegistrationException  if the class is not registered
+     * @throws UnsupportedOperationException if this bus does not index lists by class, as in the
+     *                                       default implementation
+     */
+    default void unregister(final @NotNull Class<? extends HandlerList> listClass) {
+        throw new UnsupportedOperationException("Unregistering by class is not supported by " + getClass().getName());
+    }
+
     /**
      * Returns the number of registered handlers for the given event type.
      *
@@ -101,4 +372,99 @@ public interface EventExecutorBus extends Initializable {
      */
     void clear();
 
+    /**
+     * Stops the timer thread of this bus hierarchy and cancels all events scheduled through
+     * {@link #fireLater(Event, Duration)} or {@link #fireAt(Event, Instant)}.
+     * <p>
+     * Handlers stay registered and the bus remains usable. Scheduling an event after the bus
+     * was closed starts a new timer thread. The timer is shared by a bus and all of its
+     * {@link #child(String) children}, so closing a child bus has no effect. The default
+     * implementation has no timer and does nothing.
+     * </p>
+     *
+     * @author LeyCM
+     * @since 1.0.6
+     */
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Returns the latest dispatched instance of the given {@link de.leycm.flux.event.Sticky}
+     * event type without firing anything.
+     *
+     * @param eventType the sticky event class
+     * @param <E>       the event type
+     * @return the cached event, or an empty optional if none was dispatched yet
+     */
+    default <E extends Event> @NotNull Optional<E> getSticky(final @NotNull Class<E> eventType) {
+        return Optional.empty();
+    }
+
+    /**
+     * Removes the cached instance of the given sticky event type.
+     *
+     * @param eventType the sticky event class
+     * @return {@code true} if an instance was cached, otherwise {@code false}
+     */
+    default boolean removeSticky(final @NotNull Class<? extends Event> eventType) {
+        return false;
+    }
+
+    /**
+     * Removes all cached sticky events.
+     */
+    default void clearSticky() {
+    }
+
+    /**
+     * Returns the child bus for the given scope, creating it on first access.
+     * Equivalent to {@code child(scope, true)}.
+     *
+     * @param scope the scope name, for example a world or tenant id
+     * @return the child bus of this scope, never {@code null}
+     * @see #child(String, boolean)
+     */
+    default @NotNull EventExecutorBus child(final @NotNull String scope) {
+        return child(scope, true);
+    }
+
+    /**
+     * Returns the child bus for the given scope, creating it on first access.
+     * <p>
+     * A child bus has its own handler registry, so events fired on it only reach the
+     * handlers registered on the child. If {@code propagate} is {@code true}, the event is
+     * afterwards fired on this bus as well. Children share the infrastructure of their parent.
+     * </p>
+     *
+     * @param scope     the scope name, for example a world or tenant id
+     * @param propagate whether events of the child are passed on to this bus
+     * @return the child bus of this scope, never {@code null}
+     * @throws IllegalArgumentException      if the child already exists with a different
+     *                                       propagation setting
+     * @throws UnsupportedOperationException if this bus has no scopes, as in the default implementation
+     */
+    default @NotNull EventExecutorBus child(final @NotNull String scope, final boolean propagate) {
+        throw new UnsupportedOperationException("Child buses are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Removes the child bus of the given scope and all handlers registered on it.
+     *
+     * @param scope the scope name
+     * @return {@code true} if a child existed for this scope, otherwise {@code false}
+     */
+    default boolean removeChild(final @NotNull String scope) {
+        return false;
+    }
+
+    /**
+     * Returns the parent of this bus.
+     *
+     * @return the parent bus, or {@code null} if this is a root bus
+     */
+    default @Nullable EventExecutorBus parent() {
+        return null;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+import de.leycm.flux.event.Event;
+import de.leycm.flux.exception.EventProcessException;
+import lombok.NonNull;
+
+/**
+ * A pipeline stage that observes every event passed to {@link EventExecutorBus#fire(Event)}
+ * before it is handed to the registered handlers.
+ * <p>
+ * Stages are used for infrastructure concerns such as journaling or forwarding events to
+ * other buses. They run on the firing thread, in the order they were added, and should
+ * therefore return quickly. Events dispatched through {@link EventExecutorBus#dispatch(Event)}
+ * do not pass through any stage.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ * @see EventExecutorBus#addStage(EventStage)
+ */
+@FunctionalInterface
+public interface EventStage {
+
+    /**
+     * Observes the given event before it is dispatched to the handlers.
+     *
+     * @param event the event that is being fired
+     * @throws EventProcessException if the stage fails and the event must not be dispatched
+     */
+    void accept(final @NonNull Event event) throws EventProcessException;
+
+}
@@ -0,0 +1,38 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+/**
+ * Enum representing what an {@link EventExecutorBus} does with events that exceed
+ * the rate limit of their type.
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ * @see EventExecutorBus#setRateLimit(Class, int, int, OverloadPolicy)
+ */
+public enum OverloadPolicy {
+    /**
+     * Drop - the event is discarded without reaching any handler.
+     */
+    DROP,
+
+    /**
+     * Cancel - {@link de.leycm.flux.event.Cancelable Cancelable} events are marked as canceled
+     * and returned to the caller without reaching any handler; other events are dropped.
+     */
+    CANCEL,
+
+    /**
+     * Defer - the event is fired once the next window has capacity;
+     * events exceeding the next window as well are dropped.
+     */
+    DEFER
+}
@@ -0,0 +1,54 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+import de.leycm.flux.event.Event;
+import lombok.NonNull;
+
+/**
+ * Handle of an event scheduled with {@link EventExecutorBus#fireLater(Event, java.time.Duration)}
+ * or {@link EventExecutorBus#fireAt(Event, java.time.Instant)}.
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+public interface ScheduledEvent {
+
+    /**
+     * Returns the event that will be fired once the deadline is reached.
+     *
+     * @return the scheduled event
+     */
+    @NonNull Event event();
+
+    /**
+     * Cancels the scheduled firing if it has not happened yet.
+     *
+     * @return {@code true} if the event was cancelled by this call, {@code false} if it was
+     *         already fired or cancelled
+     */
+    boolean cancel();
+
+    /**
+     * Checks if the scheduled firing was cancelled.
+     *
+     * @return {@code true} if cancelled, otherwise {@code false}
+     */
+    boolean isCancelled();
+
+    /**
+     * Checks if the scheduled event was either fired or cancelled.
+     *
+     * @return {@code true} if no longer pending, otherwise {@code false}
+     */
+    boolean isDone();
+
+}
@@ -2,8 +2,81 @@ dependencies {
     implementation(project(":api"))
     implementation(libs.leyneck)
     compileOnly(libs.jetanno)
+
+    testImplementation(platform("org.junit:junit-bom:5.11.3"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
 }
 
 tasks.named("sourcesJar") {
     mustRunAfter(":api:jar")
 }
+
+// Generates GraalVM reflection metadata for the HandlerList implementations found in
+// -PnativeImageScan=<class directory or jar>,... and packages it under META-INF/native-image
+val nativeImageScan = (findProperty("nativeImageScan") as String?)
+    ?.split(",")?.map { it.trim() }?.filter { it.isNotEmpty() }
+
+val nativeImageMetadata = tasks.register<JavaExec>("nativeImageMetadata") {
+    group = "build"
+    description = "Generates GraalVM native-image reflect-config.json for handler lists"
+
+    val main = project.the<SourceSetContainer>()["main"]
+    val output = layout.buildDirectory.dir("generated/native-image")
+    val target = output.map { it.dir("META-INF/native-image/${project.group}/${project.name}") }
+
+    // not main.runtimeClasspath, its resources depend on this task once it is packaged
+    classpath = main.output.classesDirs + configurations["runtimeClasspath"]
+    mainClass.set("de.leycm.flux.nativeimage.NativeImageMetadataGenerator")
+    args(listOf(target.get().asFile.path) + nativeImageScan.orEmpty())
+    inputs.files(nativeImageScan.orEmpty())
+    outputs.dir(output)
+
+    doFirst {
+        if (nativeImageScan.isNullOrEmpty())
+            throw GradleException("Set -PnativeImageScan=<class directory or jar>,... to the classes to scan")
+    }
+}
+
+if (nativeImageScan != null) {
+    project.the<SourceSetContainer>()["main"].resources.srcDir(nativeImageMetadata)
+}
+
+// -PnativeTest runs the native-image tests as a GraalVM native image (nativeTest task), with the
+// reflection metadata generated for the test handler lists instead of any hand-written configuration
+if (hasProperty("nativeTest")) {
+    val graalHome = System.getenv("GRAALVM_HOME") ?: System.getenv("JAVA_HOME")
+    if (graalHome == null || !file("$graalHome/bin/native-image").exists() && !file("$graalHome/bin/native-image.cmd").exists())
+        throw GradleException("-PnativeTest requires a GraalVM with native-image, point GRAALVM_HOME to it")
+
+    apply(plugin = "org.graalvm.buildtools.native")
+
+    val sourceSets = project.the<SourceSetContainer>()
+    val test = sourceSets["test"]
+
+    val nativeTestMetadata = tasks.register<JavaExec>("nativeTestMetadata") {
+        group = "verification"
+        description = "Generates GraalVM native-image reflect-config.json for the test handler lists"
+
+        val output = layout.buildDirectory.dir("generated/native-test")
+        val target = output.map { it.dir("META-INF/native-image/${project.group}/${project.name}-test") }
+
+        // not test.runtimeClasspath, its resources depend on this task
+        classpath = test.output.classesDirs + sourceSets["main"].output.classesDirs +
+                configurations["testRuntimeClasspath"]
+        mainClass.set("de.leycm.flux.nativeimage.NativeImageMetadataGenerator")
+        args(listOf(target.get().asFile.path) + test.output.classesDirs.files.map { it.path })
+        outputs.dir(output)
+    }
+    test.resources.srcDir(nativeTestMetadata)
+
+    // the native test run replays the tests discovered by the JVM run, the other suites use
+    // records outside of any handler list that the generator does not register
+    tasks.named<Test>("test") {
+        filter.includeTestsMatching("de.leycm.flux.nativeimage.*")
+    }
+}
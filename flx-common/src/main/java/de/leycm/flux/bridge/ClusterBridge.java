@@ -0,0 +1,458 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.bridge;
+
+import de.leycm.flux.codec.EventCodec;
+import de.leycm.flux.event.Event;
+import de.leycm.flux.registry.EventExecutorBus;
+import de.leycm.flux.registry.EventStage;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Forwards selected event types to the buses of other nodes through a pluggable
+ * {@link ClusterTransport} and re-fires events received from them locally.
+ *
+ * <p>The bridge attaches itself as an {@link EventStage}. Bridged events are encoded on the
+ * firing thread, before any handler can modify them, and queued for a flusher thread, which
+ * sends a batch once {@code batchSize} events are pending or the {@code linger} time has passed. Larger batches and a longer
+ * linger favour throughput, smaller ones favour latency.</p>
+ *
+ * <p><strong>Delivery Semantics:</strong></p>
+ * <ul>
+ *   <li>Ids: every event gets an id made of the random node id and a per-node sequence</li>
+ *   <li>Deduplication: events with an id already seen from the same node are skipped</li>
+ *   <li>Compression: batch bodies can optionally be deflated</li>
+ *   <li>Backpressure: events are dropped once {@code queueCapacity} events are in flight</li>
+ *   <li>Failures: events that fail to encode or belong to a batch the transport failed to send
+ *       are counted as dropped</li>
+ *   <li>Validation: malformed batches and records are counted as dropped and never reach the bus</li>
+ * </ul>
+ *
+ * <p>Received events are handed to {@link EventExecutorBus#dispatch(Event)}, so they are
+ * never forwarded again.</p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+public final class ClusterBridge implements EventStage, AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    public static final Duration DEFAULT_LINGER = Duration.ofMillis(5);
+    public static final int DEFAULT_QUEUE_CAPACITY = 64 * 1024;
+
+    private static final int BATCH_BUFFER_SIZE = 1024 * 1024;
+    private static final int INITIAL_ENCODE_BUFFER = 4 * 1024;
+
+    private static final int MAGIC = 0x464C5843;
+    private static final byte FLAG_COMPRESSED = 1;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int NODE_OFFSET = 4;
+    private static final int FIRST_ID_OFFSET = 8;
+    private static final int COUNT_OFFSET = 16;
+    private static final int FLAGS_OFFSET = 20;
+    private static final int BODY_LENGTH_OFFSET = 21;
+    private static final int BATCH_HEADER = 25;
+    private static final int RECORD_HEADER = Integer.BYTES;
+    private static final int MAX_RECORD_SIZE = BATCH_BUFFER_SIZE - BATCH_HEADER - RECORD_HEADER;
+
+    private final EventExecutorBus bus;
+    private final EventCodec codec;
+    private final ClusterTransport transport;
+    private final Set<Class<? extends Event>> types;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final boolean compress;
+    private final int queueCapacity;
+    private final int node;
+
+    private final ThreadLocal<ByteBuffer> encodeBuffers;
+    private final Queue<byte[]> queue;
+    private final AtomicInteger inFlight;
+    private final LongAdder sent;
+    private final LongAdder received;
+    private final LongAdder duplicates;
+    private final LongAdder dropped;
+
+    private final ByteBuffer batch;
+    private final ByteBuffer compressed;
+    private final Deflater deflater;
+    private long nextId;
+
+    private final Map<Integer, Long> lastSeen;
+    private final Inflater inflater;
+    private ByteBuffer inflated;
+
+    private final Thread flusher;
+    private volatile boolean running;
+
+    public ClusterBridge(final @NonNull EventExecutorBus bus,
+                         final @NonNull EventCodec codec,
+                         final @NonNull ClusterTransport transport,
+                         final @NonNull Set<Class<? extends Event>> types) throws IOException {
+        this(bus, codec, transport, types, DEFAULT_BATCH_SIZE, DEFAULT_LINGER, false, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public ClusterBridge(final @NonNull EventExecutorBus bus,
+                         final @NonNull EventCodec codec,
+                         final @NonNull ClusterTransport transport,
+                         final @NonNull Set<Class<? extends Event>> types,
+                         final int batchSize,
+                         final @NonNull Duration linger,
+                         final boolean compress,
+                         final int queueCapacity) throws IOException {
+        Objects.requireNonNull(bus, "EventExecutorBus cannot be null");
+        Objects.requireNonNull(codec, "EventCodec cannot be null");
+        Objects.requireNonNull(transport, "ClusterTransport cannot be null");
+        Objects.requireNonNull(types, "Types cannot be null");
+        Objects.requireNonNull(linger, "Linger cannot be null");
+
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        if (linger.isNegative() || linger.isZero())
+            throw new IllegalArgumentException("Linger must be positive: " + linger);
+        if (queueCapacity < batchSize)
+            throw new IllegalArgumentException("Queue capacity must be at least the batch size: " + queueCapacity);
+
+        this.bus = bus;
+        this.codec = codec;
+        this.transport = transport;
+        this.types = Set.copyOf(types);
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.compress = compress;
+        this.queueCapacity = queueCapacity;
+        this.node = ThreadLocalRandom.current().nextInt();
+
+        this.encodeBuffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_ENCODE_BUFFER));
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.inFlight = new AtomicInteger();
+        this.sent = new LongAdder();
+        this.received = new LongAdder();
+        this.duplicates = new LongAdder();
+        this.dropped = new LongAdder();
+
+        this.batch = ByteBuffer.allocateDirect(BATCH_BUFFER_SIZE);
+        this.compressed = compress ? ByteBuffer.allocateDirect(BATCH_BUFFER_SIZE) : null;
+        this.deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+
+        this.lastSeen = new HashMap<>();
+        this.inflater = new Inflater();
+        this.inflated = ByteBuffer.allocate(BATCH_BUFFER_SIZE);
+
+        transport.start(this::receive);
+
+        this.running = true;
+        this.flusher = new Thread(this::flushLoop, "flux-cluster-bridge-" + Integer.toHexString(node));
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+
+        bus.addStage(this);
+    }
+
+    @Override
+    public void accept(final @NonNull Event event) {
+        if (!types.contains(event.getClass())) return;
+
+        int pending = inFlight.incrementAndGet();
+        if (pending > queueCapacity || !running) {
+            inFlight.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+
+        byte[] record;
+        try {
+            record = encode(event);
+        } catch (RuntimeException e) {
+            record = null;
+            report(e);
+        }
+
+        if (record == null) {
+            inFlight.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+
+        queue.offer(record);
+        if (pending == batchSize) LockSupport.unpark(flusher);
+    }
+
+    /**
+     * Returns the number of events that are queued or currently being sent.
+     *
+     * @return the in-flight event count
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the number of events that were handed to the transport successfully.
+     *
+     * @return the sent event count
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * Returns the number of remote events dispatched to the local bus.
+     *
+     * @return the received event count
+     */
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    /**
+     * Returns the number of received events skipped because their id was already seen.
+     *
+     * @return the duplicate event count
+     */
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    /**
+     * Returns the number of events lost due to a full queue, encoding errors,
+     * send failures or malformed batches.
+     *
+     * @return the dropped event count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops forwarding, sends all still queued events and closes the transport.
+     */
+    @Override
+    public void close() {
+        if (!running) return;
+        running = false;
+        bus.removeStage(this);
+
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        transport.close();
+        if (deflater != null) deflater.end();
+        synchronized (this) {
+            inflater.end();
+        }
+    }
+
+    // ==================== Internal Methods ====================
+
+    private void flushLoop() {
+        while (running) {
+            if (inFlight.get() < batchSize) LockSupport.parkNanos(this, lingerNanos);
+            drain();
+        }
+        drain();
+    }
+
+    private byte[] encode(final @NonNull Event event) {
+        ByteBuffer buffer = encodeBuffers.get();
+
+        while (true) {
+            try {
+                codec.encode(event, buffer.clear());
+                return Arrays.copyOf(buffer.array(), buffer.position());
+            } catch (BufferOverflowException e) {
+                if (buffer.capacity() >= MAX_RECORD_SIZE) return null;
+
+                buffer = ByteBuffer.allocate(Math.min(buffer.capacity() * 2, MAX_RECORD_SIZE));
+                encodeBuffers.set(buffer);
+            }
+        }
+    }
+
+    private void drain() {
+        while (!queue.isEmpty()) {
+            batch.clear().position(BATCH_HEADER);
+            int count = 0;
+
+            while (count < batchSize) {
+                byte[] record = queue.peek();
+                if (record == null || batch.remaining() < RECORD_HEADER + record.length) break;
+
+                batch.putInt(record.length).put(record);
+                queue.poll();
+                count++;
+            }
+
+            if (count > 0) send(count);
+        }
+    }
+
+    private void send(final int count) {
+        int bodyLength = batch.position() - BATCH_HEADER;
+        ByteBuffer out = batch;
+        byte flags = 0;
+
+        if (compress) {
+            deflater.reset();
+            deflater.setInput(batch.slice(BATCH_HEADER, bodyLength));
+            deflater.finish();
+            compressed.clear().position(BATCH_HEADER);
+            deflater.deflate(compressed);
+
+            if (deflater.finished()) {
+                out = compressed;
+                flags |= FLAG_COMPRESSED;
+            }
+        }
+
+        out.putInt(MAGIC_OFFSET, MAGIC)
+                .putInt(NODE_OFFSET, node)
+                .putLong(FIRST_ID_OFFSET, nextId)
+                .putInt(COUNT_OFFSET, count)
+                .put(FLAGS_OFFSET, flags)
+                .putInt(BODY_LENGTH_OFFSET, bodyLength);
+        out.flip();
+        nextId += count;
+
+        try {
+            transport.send(out);
+            sent.add(count);
+        } catch (IOException | RuntimeException e) {
+            dropped.add(count);
+            report(e);
+        } finally {
+            inFlight.addAndGet(-count);
+        }
+    }
+
+    private synchronized void receive(final @NonNull ByteBuffer buffer) {
+        try {
+            receiveBatch(buffer);
+        } catch (RuntimeException e) {
+            // a malformed batch must never stop the transport
+            report(e);
+        }
+    }
+
+    private void receiveBatch(final @NonNull ByteBuffer buffer) {
+        int base = buffer.position();
+        if (buffer.remaining() < BATCH_HEADER || buffer.getInt(base + MAGIC_OFFSET) != MAGIC) return;
+
+        int origin = buffer.getInt(base + NODE_OFFSET);
+        if (origin == node) return;
+
+        long firstId = buffer.getLong(base + FIRST_ID_OFFSET);
+        int count = buffer.getInt(base + COUNT_OFFSET);
+        byte flags = buffer.get(base + FLAGS_OFFSET);
+        int bodyLength = buffer.getInt(base + BODY_LENGTH_OFFSET);
+
+        if (count < 0 || bodyLength < 0 || bodyLength > BATCH_BUFFER_SIZE - BATCH_HEADER) {
+            if (count > 0) dropped.add(count);
+            report(new IllegalStateException("Malformed batch header from node "
+                    + Integer.toHexString(origin) + ": count=" + count + ", body=" + bodyLength));
+            return;
+        }
+
+        ByteBuffer body;
+        try {
+            body = body(buffer.slice(base + BATCH_HEADER, buffer.remaining() - BATCH_HEADER), flags, bodyLength);
+        } catch (DataFormatException | RuntimeException e) {
+            dropped.add(count);
+            report(e);
+            return;
+        }
+
+        long highest = lastSeen.getOrDefault(origin, Long.MIN_VALUE);
+        for (int i = 0; i < count; i++) {
+            int length = body.remaining() >= RECORD_HEADER ? body.getInt() : -1;
+            if (length < 0 || length > body.remaining()) {
+                dropped.add(count - i);
+                report(new IllegalStateException("Malformed record " + i + " of " + count
+                        + " in batch from node " + Integer.toHexString(origin)));
+                break;
+            }
+
+            long id = firstId + i;
+            ByteBuffer record = body.slice(body.position(), length);
+            body.position(body.position() + length);
+
+            if (id <= highest) {
+                duplicates.increment();
+                continue;
+            }
+            highest = id;
+
+            Event event;
+            try {
+                event = codec.decode(record);
+            } catch (RuntimeException e) {
+                dropped.increment();
+                report(e);
+                continue;
+            }
+
+            try {
+                bus.dispatch(event);
+                received.increment();
+            } catch (RuntimeException e) {
+                report(e);
+            }
+        }
+        lastSeen.put(origin, highest);
+    }
+
+    private @NonNull ByteBuffer body(final @NonNull ByteBuffer payload,
+                                     final byte flags,
+                                     final int bodyLength) throws DataFormatException {
+        if ((flags & FLAG_COMPRESSED) == 0) return payload.limit(bodyLength);
+
+        if (inflated.capacity() < bodyLength) inflated = ByteBuffer.allocate(bodyLength);
+        inflated.clear().limit(bodyLength);
+
+        inflater.reset();
+        inflater.setInput(payload);
+        while (inflated.hasRemaining() && !inflater.finished()) {
+            if (inflater.inflate(inflated) == 0 && inflater.needsInput())
+                throw new DataFormatException("Truncated compressed batch");
+        }
+        return inflated.flip();
+    }
+
+    private static void report(final @NonNull Throwable throwable) {
+        Thread current = Thread.currentThread();
+        current.getUncaughtExceptionHandler().uncaughtException(current, throwable);
+    }
+
+}
@@ -0,0 +1,56 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.bridge;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Transport used by a {@link ClusterBridge} to exchange encoded event batches with peers.
+ * <p>
+ * A transport broadcasts every batch handed to {@link #send(ByteBuffer)} to all of its peers
+ * and passes batches received from peers to the receiver given to {@link #start(Consumer)}.
+ * The buffers passed to the receiver are only valid for the duration of the call.
+ * </p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ * @see NioTcpTransport
+ * @see LoopbackTransport
+ */
+public interface ClusterTransport extends AutoCloseable {
+
+    /**
+     * Starts the transport and begins delivering received batches.
+     *
+     * @param receiver callback invoked for every batch received from a peer
+     * @throws IOException if the transport cannot be started
+     */
+    void start(final @NonNull Consumer<ByteBuffer> receiver) throws IOException;
+
+    /**
+     * Sends the remaining bytes of the given batch to all peers.
+     *
+     * @param batch the encoded batch, its position and limit are left untouched
+     * @throws IOException if the batch could not be delivered to at least one peer
+     */
+    void send(final @NonNull ByteBuffer batch) throws IOException;
+
+    /**
+     * Stops the transport and releases all network resources.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,70 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.bridge;
+
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-memory {@link ClusterTransport} that delivers batches synchronously to connected
+ * transports of the same JVM. Used as a stand-in for the network in tests and local setups.
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+public final class LoopbackTransport implements ClusterTransport {
+
+    private final List<LoopbackTransport> peers;
+    private volatile Consumer<ByteBuffer> receiver;
+
+    public LoopbackTransport() {
+        this.peers = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Connects this transport with another one in both directions.
+     *
+     * @param other the transport to connect with
+     */
+    public void connect(final @NonNull LoopbackTransport other) {
+        Objects.requireNonNull(other, "LoopbackTransport cannot be null");
+        if (other == this) throw new IllegalArgumentException("Cannot connect a transport to itself");
+
+        peers.add(other);
+        other.peers.add(this);
+    }
+
+    @Override
+    public void start(final @NonNull Consumer<ByteBuffer> receiver) {
+        this.receiver = Objects.requireNonNull(receiver, "Receiver cannot be null");
+    }
+
+    @Override
+    public void send(final @NonNull ByteBuffer batch) {
+        for (LoopbackTransport peer : peers) {
+            Consumer<ByteBuffer> target = peer.receiver;
+            if (target != null) target.accept(batch.asReadOnlyBuffer());
+        }
+    }
+
+    @Override
+    public void close() {
+        receiver = null;
+        for (LoopbackTransport peer : peers) peer.peers.remove(this);
+        peers.clear();
+    }
+
+}
@@ -0,0 +1,378 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.bridge;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link ClusterTransport} over plain TCP using non-blocking NIO.
+ *
+ * <p>Every node listens on a bind address and keeps one outbound connection per peer.
+ * Batches are framed with a 4 byte length prefix. Inbound connections are served by a
+ * single selector thread that also invokes the receiver.</p>
+ *
+ * <p>Outbound connections are opened lazily. Connecting and writing never block: all peers
+ * of one send are served concurrently and share a single {@code timeout}, so an unreachable
+ * or stalled peer delays a send by at most that time. A peer that failed is skipped with an
+ * exponentially growing backoff before it is connected again.</p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+public final class NioTcpTransport implements ClusterTransport {
+
+    public static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024 * 1024;
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final int FRAME_HEADER = Integer.BYTES;
+    private static final int INITIAL_READ_BUFFER = 64 * 1024;
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final InetSocketAddress bindAddress;
+    private final List<InetSocketAddress> peers;
+    private final SocketChannel[] connections;
+    private final ByteBuffer[][] frames;
+    private final long[] retryAt;
+    private final long[] backoff;
+    private final int maxFrameSize;
+    private final long timeoutNanos;
+
+    private Selector writeSelector;
+    private Selector selector;
+    private ServerSocketChannel server;
+    private Thread selectorThread;
+    private Consumer<ByteBuffer> receiver;
+    private volatile boolean running;
+
+    public NioTcpTransport(final @NonNull InetSocketAddress bindAddress,
+                           final @NonNull List<InetSocketAddress> peers) {
+        this(bindAddress, peers, DEFAULT_MAX_FRAME_SIZE, DEFAULT_TIMEOUT);
+    }
+
+    public NioTcpTransport(final @NonNull InetSocketAddress bindAddress,
+                           final @NonNull List<InetSocketAddress> peers,
+                           final int maxFrameSize) {
+        this(bindAddress, peers, maxFrameSize, DEFAULT_TIMEOUT);
+    }
+
+    public NioTcpTransport(final @NonNull InetSocketAddress bindAddress,
+                           final @NonNull List<InetSocketAddress> peers,
+                           final int maxFrameSize,
+                           final @NonNull Duration timeout) {
+        Objects.requireNonNull(bindAddress, "Bind address cannot be null");
+        Objects.requireNonNull(peers, "Peers cannot be null");
+        Objects.requireNonNull(timeout, "Timeout cannot be null");
+        if (maxFrameSize <= 0)
+            throw new IllegalArgumentException("Max frame size must be positive: " + maxFrameSize);
+        if (timeout.isNegative() || timeout.isZero())
+            throw new IllegalArgumentException("Timeout must be positive: " + timeout);
+
+        this.bindAddress = bindAddress;
+        this.peers = List.copyOf(peers);
+        this.connections = new SocketChannel[this.peers.size()];
+        this.frames = new ByteBuffer[this.peers.size()][];
+        this.retryAt = new long[this.peers.size()];
+        this.backoff = new long[this.peers.size()];
+        this.maxFrameSize = maxFrameSize;
+        this.timeoutNanos = timeout.toNanos();
+
+        for (int i = 0; i < frames.length; i++)
+            frames[i] = new ByteBuffer[]{ByteBuffer.allocateDirect(FRAME_HEADER), null};
+    }
+
+    /**
+     * Returns the address the server socket is bound to, useful when binding to port 0.
+     *
+     * @return the local address or {@code null} if the transport is not started
+     * @throws IOException if the address cannot be determined
+     */
+    public InetSocketAddress getLocalAddress() throws IOException {
+        ServerSocketChannel current = server;
+        return current != null ? (InetSocketAddress) current.getLocalAddress() : null;
+    }
+
+    @Override
+    public void start(final @NonNull Consumer<ByteBuffer> receiver) throws IOException {
+        Objects.requireNonNull(receiver, "Receiver cannot be null");
+        if (running) throw new IllegalStateException("Transport already started");
+
+        this.receiver = receiver;
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        this.server.bind(bindAddress);
+        this.server.configureBlocking(false);
+        this.server.register(selector, SelectionKey.OP_ACCEPT);
+
+        this.running = true;
+        this.selectorThread = new Thread(this::selectLoop, "flux-tcp-transport-" + bindAddress.getPort());
+        this.selectorThread.setDaemon(true);
+        this.selectorThread.start();
+    }
+
+    @Override
+    public synchronized void send(final @NonNull ByteBuffer batch) throws IOException {
+        if (writeSelector == null) writeSelector = Selector.open();
+
+        long now = System.nanoTime();
+        long deadline = now + timeoutNanos;
+        IOException failure = null;
+        int pending = 0;
+
+        for (int i = 0; i < connections.length; i++) {
+            try {
+                SocketChannel channel = connect(i, now);
+
+                ByteBuffer[] frame = frames[i];
+                frame[0].clear().putInt(batch.remaining()).flip();
+                frame[1] = batch.duplicate();
+
+                if (!progress(i, channel)) pending++;
+            } catch (IOException e) {
+                failure = fail(i, e, failure);
+            }
+        }
+
+        while (pending > 0) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) break;
+
+            writeSelector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+            Iterator<SelectionKey> keys = writeSelector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+
+                int index = (Integer) key.attachment();
+                try {
+                    if (progress(index, (SocketChannel) key.channel())) pending--;
+                } catch (IOException e) {
+                    pending--;
+                    failure = fail(index, e, failure);
+                }
+            }
+        }
+
+        if (pending > 0) {
+            // a partially written frame would corrupt the stream, drop every peer that did not finish
+            for (int i = 0; i < connections.length; i++) {
+                SelectionKey key = connections[i] != null ? connections[i].keyFor(writeSelector) : null;
+                if (key == null || !key.isValid() || key.interestOps() == 0) continue;
+
+                failure = fail(i, new SocketTimeoutException("Send to " + peers.get(i) + " timed out after "
+                        + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms"), failure);
+            }
+        }
+
+        for (ByteBuffer[] frame : frames) frame[1] = null;
+        if (failure != null) throw failure;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+
+        synchronized (this) {
+            for (int i = 0; i < connections.length; i++) {
+                closeQuietly(connections[i]);
+                connections[i] = null;
+            }
+
+            if (writeSelector != null) {
+                try {
+                    writeSelector.close();
+                } catch (IOException ignored) {
+                    // nothing left to release
+                }
+                writeSelector = null;
+            }
+        }
+
+        if (selector != null) {
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // nothing left to release
+            }
+        }
+        closeQuietly(server);
+    }
+
+    // ==================== Internal Methods ====================
+
+    private @NonNull SocketChannel connect(final int index, final long now) throws IOException {
+        SocketChannel channel = connections[index];
+        if (channel != null && channel.isOpen()) return channel;
+
+        if (now - retryAt[index] < 0)
+            throw new ConnectException("Peer " + peers.get(index) + " is backing off for another "
+                    + TimeUnit.NANOSECONDS.toMillis(retryAt[index] - now) + " ms");
+
+        channel = SocketChannel.open();
+        connections[index] = channel;
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        channel.register(writeSelector, 0, index);
+        channel.connect(peers.get(index));
+        return channel;
+    }
+
+    /**
+     * Advances the connect and write of one peer as far as possible without blocking.
+     *
+     * @return {@code true} once the whole frame is written
+     */
+    private boolean progress(final int index, final @NonNull SocketChannel channel) throws IOException {
+        SelectionKey key = channel.keyFor(writeSelector);
+
+        if (channel.isConnectionPending() && !channel.finishConnect()) {
+            key.interestOps(SelectionKey.OP_CONNECT);
+            return false;
+        }
+
+        ByteBuffer[] frame = frames[index];
+        channel.write(frame);
+        if (frame[1].hasRemaining()) {
+            key.interestOps(SelectionKey.OP_WRITE);
+            return false;
+        }
+
+        key.interestOps(0);
+        backoff[index] = 0;
+        return true;
+    }
+
+    private IOException fail(final int index, final @NonNull IOException cause, final IOException failure) {
+        SocketChannel channel = connections[index];
+        if (channel != null) {
+            closeQuietly(channel);
+            connections[index] = null;
+
+            // peers that are merely backing off keep their current delay
+            backoff[index] = Math.min(Math.max(backoff[index] * 2, MIN_BACKOFF_NANOS), MAX_BACKOFF_NANOS);
+            retryAt[index] = System.nanoTime() + backoff[index];
+        }
+
+        if (failure == null) return cause;
+        failure.addSuppressed(cause);
+        return failure;
+    }
+
+    private void selectLoop() {
+        try {
+            while (running) {
+                selector.select();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+
+                    if (!key.isValid()) continue;
+                    try {
+                        if (key.isAcceptable()) accept();
+                        else if (key.isReadable()) read(key);
+                    } catch (IOException | RuntimeException e) {
+                        // a single connection must never stop the selector thread
+                        if (running) report(e);
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (running) report(e);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) return;
+
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        channel.register(selector, SelectionKey.OP_READ, ByteBuffer.allocate(INITIAL_READ_BUFFER));
+    }
+
+    private void read(final @NonNull SelectionKey key) {
+        SocketChannel channel = (SocketChannel) key.channel();
+        ByteBuffer buffer = (ByteBuffer) key.attachment();
+
+        try {
+            if (channel.read(buffer) < 0) {
+                key.cancel();
+                closeQuietly(channel);
+                return;
+            }
+
+            buffer.flip();
+            while (buffer.remaining() >= FRAME_HEADER) {
+                int length = buffer.getInt(buffer.position());
+                if (length < 0 || length > maxFrameSize)
+                    throw new IOException("Invalid frame length " + length + " from " + channel.getRemoteAddress());
+
+                if (buffer.remaining() < FRAME_HEADER + length) {
+                    if (buffer.capacity() < FRAME_HEADER + length) {
+                        ByteBuffer grown = ByteBuffer.allocate(FRAME_HEADER + length);
+                        grown.put(buffer);
+                        key.attach(grown);
+                        return;
+                    }
+                    break;
+                }
+
+                int start = buffer.position() + FRAME_HEADER;
+                try {
+                    receiver.accept(buffer.slice(start, length));
+                } catch (RuntimeException e) {
+                    report(e);
+                }
+                buffer.position(start + length);
+            }
+            buffer.compact();
+        } catch (IOException e) {
+            key.cancel();
+            closeQuietly(channel);
+        }
+    }
+
+    private static void report(final @NonNull Throwable throwable) {
+        Thread current = Thread.currentThread();
+        current.getUncaughtExceptionHandler().uncaughtException(current, throwable);
+    }
+
+    private static void closeQuietly(final Channel channel) {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // nothing left to release
+        }
+    }
+
+}
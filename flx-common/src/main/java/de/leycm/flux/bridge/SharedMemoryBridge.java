@@ -0,0 +1,318 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.bridge;
+
+import de.leycm.flux.codec.EventCodec;
+import de.leycm.flux.event.Event;
+import de.leycm.flux.registry.EventExecutorBus;
+import de.leycm.flux.registry.EventStage;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bridges selected event types between {@link EventExecutorBus} instances of different
+ * processes on the same host through a memory-mapped ring file.
+ *
+ * <p>The bridge attaches itself as an {@link EventStage}: every fired event whose exact type
+ * is part of the bridged set is encoded into the next ring slot, in addition to the normal
+ * local dispatch. A daemon thread follows the ring and hands events written by other
+ * bridges to {@link EventExecutorBus#dispatch(Event)}, so received events never travel back
+ * into the ring.</p>
+ *
+ * <p><strong>Ring Protocol:</strong></p>
+ * <ul>
+ *   <li>Producers claim a slot with an atomic increment of the shared cursor, no locks are taken</li>
+ *   <li>A slot is published by storing {@code claim + 1} as its sequence with release semantics</li>
+ *   <li>Every bridge keeps a private read cursor, the ring is a broadcast to all attached processes</li>
+ *   <li>Readers that fall behind by more than the ring capacity skip ahead and count the loss</li>
+ *   <li>Events larger than a slot or failing to encode are not bridged and counted as dropped</li>
+ * </ul>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+public final class SharedMemoryBridge implements EventStage, AutoCloseable {
+
+    public static final int DEFAULT_SLOT_SIZE = 1024;
+    public static final int DEFAULT_SLOT_COUNT = 16 * 1024;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(
+            long[].class, ByteOrder.nativeOrder());
+
+    private static final int MAGIC = 0x464C5852;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int SLOT_SIZE_OFFSET = 4;
+    private static final int SLOT_COUNT_OFFSET = 8;
+    private static final int CURSOR_OFFSET = 64;
+    private static final int SLOTS_OFFSET = 128;
+
+    private static final int SEQUENCE_OFFSET = 0;
+    private static final int ORIGIN_OFFSET = 8;
+    private static final int LENGTH_OFFSET = 12;
+    private static final int SLOT_HEADER = 16;
+
+    private static final int SPIN_TRIES = 1_000;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long STALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final EventExecutorBus bus;
+    private final EventCodec codec;
+    private final Set<Class<? extends Event>> types;
+    private final MappedByteBuffer ring;
+    private final int slotSize;
+    private final long mask;
+    private final int origin;
+
+    private final LongAdder published;
+    private final LongAdder received;
+    private final LongAdder dropped;
+
+    private final Thread reader;
+    private volatile boolean running;
+
+    public SharedMemoryBridge(final @NonNull EventExecutorBus bus,
+                              final @NonNull EventCodec codec,
+                              final @NonNull Path file,
+                              final @NonNull Set<Class<? extends Event>> types) throws IOException {
+        this(bus, codec, file, types, DEFAULT_SLOT_SIZE, DEFAULT_SLOT_COUNT);
+    }
+
+    public SharedMemoryBridge(final @NonNull EventExecutorBus bus,
+                              final @NonNull EventCodec codec,
+                              final @NonNull Path file,
+                              final @NonNull Set<Class<? extends Event>> types,
+                              final int slotSize,
+                              final int slotCount) throws IOException {
+        Objects.requireNonNull(bus, "EventExecutorBus cannot be null");
+        Objects.requireNonNull(codec, "EventCodec cannot be null");
+        Objects.requireNonNull(file, "File cannot be null");
+        Objects.requireNonNull(types, "Types cannot be null");
+
+        if (slotSize <= SLOT_HEADER || slotSize % Long.BYTES != 0)
+            throw new IllegalArgumentException("Slot size must be a multiple of 8 above "
+                    + SLOT_HEADER + ": " + slotSize);
+        if (slotCount < 2 || Integer.bitCount(slotCount) != 1)
+            throw new IllegalArgumentException("Slot count must be a power of two: " + slotCount);
+
+        this.bus = bus;
+        this.codec = codec;
+        this.types = Set.copyOf(types);
+        this.slotSize = slotSize;
+        this.mask = slotCount - 1;
+        this.origin = ThreadLocalRandom.current().nextInt(1, Integer.MAX_VALUE);
+        this.ring = openRing(file, slotSize, slotCount);
+
+        this.published = new LongAdder();
+        this.received = new LongAdder();
+        this.dropped = new LongAdder();
+
+        long start = (long) LONG.getVolatile(ring, CURSOR_OFFSET);
+        this.running = true;
+        this.reader = new Thread(() -> readLoop(start), "flux-shm-bridge-" + file.getFileName());
+        this.reader.setDaemon(true);
+        this.reader.start();
+
+        bus.addStage(this);
+    }
+
+    @Override
+    public void accept(final @NonNull Event event) {
+        if (!types.contains(event.getClass())) return;
+
+        long claim = (long) LONG.getAndAdd(ring, CURSOR_OFFSET, 1L);
+        int slot = slotOffset(claim);
+
+        LONG.setVolatile(ring, slot + SEQUENCE_OFFSET, -(claim + 1));
+
+        int length = -1;
+        try {
+            ByteBuffer payload = ring.slice(slot + SLOT_HEADER, slotSize - SLOT_HEADER);
+            codec.encode(event, payload);
+            length = payload.position();
+            published.increment();
+        } catch (BufferOverflowException e) {
+            dropped.increment();
+        } catch (RuntimeException e) {
+            // bridging must never prevent the local dispatch of the event
+            dropped.increment();
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, e);
+        } finally {
+            // always publish, readers would otherwise stall on the claimed slot
+            ring.putInt(slot + ORIGIN_OFFSET, origin);
+            ring.putInt(slot + LENGTH_OFFSET, length);
+            LONG.setRelease(ring, slot + SEQUENCE_OFFSET, claim + 1);
+        }
+    }
+
+    /**
+     * Returns the number of local events written into the ring.
+     *
+     * @return the published event count
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * Returns the number of remote events dispatched to the local bus.
+     *
+     * @return the received event count
+     */
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    /**
+     * Returns the number of events lost because they exceeded the slot size
+     * or were overwritten before this bridge could read them.
+     *
+     * @return the dropped event count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void close() {
+        if (!running) return;
+        running = false;
+        bus.removeStage(this);
+        LockSupport.unpark(reader);
+    }
+
+    // ==================== Internal Methods ====================
+
+    private void readLoop(final long start) {
+        byte[] scratch = new byte[slotSize - SLOT_HEADER];
+        long cursor = start;
+        long waitingSince = 0;
+        int idle = 0;
+
+        while (running) {
+            int slot = slotOffset(cursor);
+            long sequence = (long) LONG.getAcquire(ring, slot + SEQUENCE_OFFSET);
+
+            if (sequence == cursor + 1) {
+                read(slot, sequence, scratch);
+                cursor++;
+                waitingSince = 0;
+                idle = 0;
+                continue;
+            }
+
+            if (Math.abs(sequence) > cursor + 1) {
+                // resume at the oldest slot that cannot have been overwritten yet
+                long head = (long) LONG.getVolatile(ring, CURSOR_OFFSET);
+                long oldest = Math.max(cursor + 1, head - (mask + 1) + 1);
+                dropped.add(oldest - cursor);
+                cursor = oldest;
+                continue;
+            }
+
+            long head = (long) LONG.getVolatile(ring, CURSOR_OFFSET);
+            if (head > cursor) {
+                long now = System.nanoTime();
+                if (waitingSince == 0) waitingSince = now;
+                else if (now - waitingSince > STALL_NANOS) {
+                    // the producer of this slot died between claim and publish
+                    dropped.increment();
+                    cursor++;
+                    waitingSince = 0;
+                    continue;
+                }
+            }
+
+            if (++idle < SPIN_TRIES) Thread.onSpinWait();
+            else LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    private void read(final int slot, final long sequence, final byte @NonNull [] scratch) {
+        int length = ring.getInt(slot + LENGTH_OFFSET);
+        if (ring.getInt(slot + ORIGIN_OFFSET) == origin || length <= 0) return;
+
+        ring.get(slot + SLOT_HEADER, scratch, 0, length);
+        VarHandle.loadLoadFence();
+
+        if ((long) LONG.getVolatile(ring, slot + SEQUENCE_OFFSET) != sequence) {
+            dropped.increment();
+            return;
+        }
+
+        try {
+            bus.dispatch(codec.decode(ByteBuffer.wrap(scratch, 0, length)));
+            received.increment();
+        } catch (RuntimeException e) {
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, e);
+        }
+    }
+
+    private int slotOffset(final long sequence) {
+        return SLOTS_OFFSET + (int) (sequence & mask) * slotSize;
+    }
+
+    private static @NonNull MappedByteBuffer openRing(final @NonNull Path file,
+                                                      final int slotSize,
+                                                      final int slotCount) throws IOException {
+        long size = SLOTS_OFFSET + (long) slotSize * slotCount;
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Ring exceeds 2 GiB: " + size);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                boolean fresh = channel.size() == 0;
+                if (!fresh && channel.size() != size)
+                    throw new IllegalStateException("Ring file " + file + " has size " + channel.size()
+                            + ", expected " + size);
+
+                MappedByteBuffer ring = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                ring.order(ByteOrder.nativeOrder());
+
+                if (fresh) {
+                    ring.putInt(SLOT_SIZE_OFFSET, slotSize);
+                    ring.putInt(SLOT_COUNT_OFFSET, slotCount);
+                    ring.putInt(MAGIC_OFFSET, MAGIC);
+                    ring.force();
+                } else if (ring.getInt(MAGIC_OFFSET) != MAGIC
+                        || ring.getInt(SLOT_SIZE_OFFSET) != slotSize
+                        || ring.getInt(SLOT_COUNT_OFFSET) != slotCount) {
+                    throw new IllegalStateException("Ring file " + file + " has an incompatible layout");
+                }
+
+                return ring;
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.codec;
+
+import de.leycm.flux.event.Event;
+import de.leycm.flux.exception.EventProcessException;
+import lombok.NonNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact binary {@link EventCodec} for events declared as records.
+ *
+ * <p>The layout of a record class is derived from its components once, on first use, and
+ * compiled into method handles. Encoding writes straight into the target buffer without
+ * boxing primitive components or creating intermediate byte arrays. Buffers obtained from a
+ * {@code MemorySegment} via {@code asByteBuffer()} can be used directly.</p>
+ *
+ * <p><strong>Wire Format:</strong></p>
+ * <ul>
+ *   <li>Header: 4 byte type id, 2 byte schema version and 4 byte payload length</li>
+ *   <li>Type id: hash of the fully qualified class name, stable across processes</li>
+ *   <li>Payload: all components in declaration order, in the byte order of the buffer</li>
+ *   <li>References: prefixed with a presence byte, so {@code null} components are allowed</li>
+ *   <li>Supported: primitives and their boxes, {@code String}, {@code byte[]}, {@code Instant},
+ *       {@code Duration}, {@code UUID}, enums and nested records</li>
+ * </ul>
+ *
+ * <p><strong>Schema Versioning:</strong> the schema version is the component count. Records
+ * may evolve by appending components: missing trailing components decode to {@code null},
+ * zero or {@code false}, unknown trailing components are skipped. Nested records carry no
+ * header of their own and cannot evolve independently.</p>
+ *
+ * <p>Types are registered automatically when they are encoded. A process that only decodes
+ * a type has to {@link #register(Class)} it first.</p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+public final class BinaryEventCodec implements EventCodec {
+
+    private static final int HEADER = Integer.BYTES + Short.BYTES + Integer.BYTES;
+    private static final int LENGTH_OFFSET = Integer.BYTES + Short.BYTES;
+
+    private final Map<Integer, RecordLayout> layoutsById;
+    private final ClassValue<RecordLayout> layouts;
+
+    public BinaryEventCodec() {
+        this.layoutsById = new ConcurrentHashMap<>();
+        this.layouts = new ClassValue<>() {
+            @Override
+            protected RecordLayout computeValue(final Class<?> type) {
+                RecordLayout layout = RecordLayout.of(type);
+                RecordLayout existing = layoutsById.putIfAbsent(layout.typeId(), layout);
+                if (existing != null && existing.type() != type)
+                    throw new EventProcessException("Type id collision between " + type.getName()
+                            + " and " + existing.type().getName());
+                return layout;
+            }
+        };
+    }
+
+    /**
+     * Registers the given record event type so it can be decoded.
+     *
+     * @param type the record class to register
+     * @throws EventProcessException if the type is not a record, has unsupported components
+     *                               or its type id collides with an already registered type
+     */
+    public void register(final @NonNull Class<? extends Event> type) {
+        Objects.requireNonNull(type, "Event type cannot be null");
+        layouts.get(type);
+    }
+
+    @Override
+    public void encode(final @NonNull Event event, final @NonNull ByteBuffer buffer) {
+        RecordLayout layout = layouts.get(event.getClass());
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER) throw new BufferOverflowException();
+
+        buffer.putInt(layout.typeId()).putShort(layout.version()).position(start + HEADER);
+        try {
+            layout.writePayload(event, buffer);
+        } catch (BufferOverflowException | EventProcessException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new EventProcessException("Failed to encode event: " + event.debug(), e);
+        }
+
+        buffer.putInt(start + LENGTH_OFFSET, buffer.position() - start - HEADER);
+    }
+
+    @Override
+    public @NonNull Event decode(final @NonNull ByteBuffer buffer) {
+        try {
+            int typeId = buffer.getInt();
+            short version = buffer.getShort();
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining())
+                throw new EventProcessException("Invalid payload length " + length + " with "
+                        + buffer.remaining() + " bytes remaining");
+            int end = buffer.position() + length;
+
+            RecordLayout layout = layoutsById.get(typeId);
+            if (layout == null)
+                throw new EventProcessException("Unknown event type id " + typeId + ", register the type first");
+
+            Event event = (Event) layout.readPayload(buffer, version);
+            if (buffer.position() > end)
+                throw new EventProcessException("Payload of " + layout.type().getName() + " exceeds its length " + length);
+            buffer.position(end);
+            return event;
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new EventProcessException("Malformed encoded event", e);
+        }
+    }
+
+}
@@ -0,0 +1,218 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.codec;
+
+import de.leycm.flux.exception.EventProcessException;
+import lombok.NonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Binary reader and writer for a single record component.
+ * <p>
+ * Primitive components are read through accessor handles adapted to their exact primitive
+ * return type, so encoding never boxes. Reference components are prefixed with a presence
+ * byte to support {@code null}.
+ * </p>
+ */
+final class ComponentCodec {
+
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+
+    private final Writer writer;
+    private final Reader reader;
+    private final Object defaultValue;
+
+    private ComponentCodec(final @NonNull Writer writer,
+                           final @NonNull Reader reader,
+                           final Object defaultValue) {
+        this.writer = writer;
+        this.reader = reader;
+        this.defaultValue = defaultValue;
+    }
+
+    void write(final @NonNull Object owner, final @NonNull ByteBuffer buffer) throws Throwable {
+        writer.write(owner, buffer);
+    }
+
+    Object read(final @NonNull ByteBuffer buffer) {
+        return reader.read(buffer);
+    }
+
+    Object defaultValue() {
+        return defaultValue;
+    }
+
+    static @NonNull ComponentCodec of(final @NonNull Class<?> type, final @NonNull MethodHandle accessor) {
+        MethodHandle getter = accessor.asType(MethodType.methodType(type, Object.class));
+
+        if (type == int.class)
+            return new ComponentCodec((o, b) -> b.putInt((int) getter.invokeExact(o)), ByteBuffer::getInt, 0);
+        if (type == long.class)
+            return new ComponentCodec((o, b) -> b.putLong((long) getter.invokeExact(o)), ByteBuffer::getLong, 0L);
+        if (type == boolean.class)
+            return new ComponentCodec((o, b) -> b.put((boolean) getter.invokeExact(o) ? PRESENT : ABSENT),
+                    b -> b.get() != ABSENT, false);
+        if (type == byte.class)
+            return new ComponentCodec((o, b) -> b.put((byte) getter.invokeExact(o)), ByteBuffer::get, (byte) 0);
+        if (type == short.class)
+            return new ComponentCodec((o, b) -> b.putShort((short) getter.invokeExact(o)), ByteBuffer::getShort, (short) 0);
+        if (type == char.class)
+            return new ComponentCodec((o, b) -> b.putChar((char) getter.invokeExact(o)), ByteBuffer::getChar, (char) 0);
+        if (type == float.class)
+            return new ComponentCodec((o, b) -> b.putFloat((float) getter.invokeExact(o)), ByteBuffer::getFloat, 0F);
+        if (type == double.class)
+            return new ComponentCodec((o, b) -> b.putDouble((double) getter.invokeExact(o)), ByteBuffer::getDouble, 0D);
+
+        MethodHandle objectGetter = accessor.asType(MethodType.methodType(Object.class, Object.class));
+        ValueWriter valueWriter = valueWriter(type);
+        Reader valueReader = valueReader(type);
+
+        return new ComponentCodec((o, b) -> {
+            Object value = (Object) objectGetter.invokeExact(o);
+            if (value == null) {
+                b.put(ABSENT);
+                return;
+            }
+            b.put(PRESENT);
+            valueWriter.write(value, b);
+        }, b -> b.get() == ABSENT ? null : valueReader.read(b), null);
+    }
+
+    // ==================== Internal Methods ====================
+
+    private static @NonNull ValueWriter valueWriter(final @NonNull Class<?> type) {
+        if (type == String.class) return (v, b) -> writeString((String) v, b);
+        if (type == Integer.class) return (v, b) -> b.putInt((Integer) v);
+        if (type == Long.class) return (v, b) -> b.putLong((Long) v);
+        if (type == Boolean.class) return (v, b) -> b.put((Boolean) v ? PRESENT : ABSENT);
+        if (type == Byte.class) return (v, b) -> b.put((Byte) v);
+        if (type == Short.class) return (v, b) -> b.putShort((Short) v);
+        if (type == Character.class) return (v, b) -> b.putChar((Character) v);
+        if (type == Float.class) return (v, b) -> b.putFloat((Float) v);
+        if (type == Double.class) return (v, b) -> b.putDouble((Double) v);
+        if (type == byte[].class) return (v, b) -> b.putInt(((byte[]) v).length).put((byte[]) v);
+        if (type == Instant.class) return (v, b) -> b.putLong(((Instant) v).getEpochSecond()).putInt(((Instant) v).getNano());
+        if (type == Duration.class) return (v, b) -> b.putLong(((Duration) v).getSeconds()).putInt(((Duration) v).getNano());
+        if (type == UUID.class) return (v, b) -> b.putLong(((UUID) v).getMostSignificantBits()).putLong(((UUID) v).getLeastSignificantBits());
+        if (type.isEnum()) return (v, b) -> b.putInt(((Enum<?>) v).ordinal());
+        if (type.isRecord()) {
+            RecordLayout nested = RecordLayout.of(type);
+            return (v, b) -> nested.writePayload(v, b);
+        }
+        throw new EventProcessException("Unsupported record component type: " + type.getName());
+    }
+
+    private static @NonNull Reader valueReader(final @NonNull Class<?> type) {
+        if (type == String.class) return ComponentCodec::readString;
+        if (type == Integer.class) return ByteBuffer::getInt;
+        if (type == Long.class) return ByteBuffer::getLong;
+        if (type == Boolean.class) return b -> b.get() != ABSENT;
+        if (type == Byte.class) return ByteBuffer::get;
+        if (type == Short.class) return ByteBuffer::getShort;
+        if (type == Character.class) return ByteBuffer::getChar;
+        if (type == Float.class) return ByteBuffer::getFloat;
+        if (type == Double.class) return ByteBuffer::getDouble;
+        if (type == byte[].class) return b -> {
+            byte[] bytes = new byte[readLength(b)];
+            b.get(bytes);
+            return bytes;
+        };
+        if (type == Instant.class) return b -> Instant.ofEpochSecond(b.getLong(), b.getInt());
+        if (type == Duration.class) return b -> Duration.ofSeconds(b.getLong(), b.getInt());
+        if (type == UUID.class) return b -> new UUID(b.getLong(), b.getLong());
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return b -> {
+                int ordinal = b.getInt();
+                if (ordinal < 0 || ordinal >= constants.length)
+                    throw new EventProcessException("Unknown constant " + ordinal + " of " + type.getName());
+                return constants[ordinal];
+            };
+        }
+        if (type.isRecord()) {
+            RecordLayout nested = RecordLayout.of(type);
+            return b -> nested.readPayload(b, nested.version());
+        }
+        throw new EventProcessException("Unsupported record component type: " + type.getName());
+    }
+
+    private static void writeString(final @NonNull String value, final @NonNull ByteBuffer buffer) {
+        int lengthAt = buffer.position();
+        if (buffer.remaining() < Integer.BYTES) throw new BufferOverflowException();
+        buffer.position(lengthAt + Integer.BYTES);
+
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | cp >> 18)).put((byte) (0x80 | cp >> 12 & 0x3F))
+                        .put((byte) (0x80 | cp >> 6 & 0x3F)).put((byte) (0x80 | cp & 0x3F));
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+
+        buffer.putInt(lengthAt, buffer.position() - lengthAt - Integer.BYTES);
+    }
+
+    private static @NonNull String readString(final @NonNull ByteBuffer buffer) {
+        int length = readLength(buffer);
+        String value;
+
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(buffer.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static int readLength(final @NonNull ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining())
+            throw new EventProcessException("Invalid length prefix " + length + " with "
+                    + buffer.remaining() + " bytes remaining");
+        return length;
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(Object owner, ByteBuffer buffer) throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(Object value, ByteBuffer buffer) throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        Object read(ByteBuffer buffer);
+    }
+
+}
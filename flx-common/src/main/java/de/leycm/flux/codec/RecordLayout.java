@@ -0,0 +1,111 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.codec;
+
+import de.leycm.flux.exception.EventProcessException;
+import lombok.NonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.ByteBuffer;
+
+/**
+ * Compiled binary layout of a record class, built once per class on first use.
+ * <p>
+ * Components are written in declaration order without any framing. The schema version of
+ * a layout is its component count, which allows records to evolve by appending components.
+ * </p>
+ */
+final class RecordLayout {
+
+    private static final ClassValue<RecordLayout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected RecordLayout computeValue(final Class<?> type) {
+            return new RecordLayout(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final int typeId;
+    private final ComponentCodec[] components;
+    private final MethodHandle constructor;
+
+    private RecordLayout(final @NonNull Class<?> type) {
+        if (!type.isRecord())
+            throw new EventProcessException("Only records can be encoded, got: " + type.getName());
+
+        RecordComponent[] recordComponents = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[recordComponents.length];
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        this.type = type;
+        this.typeId = type.getName().hashCode();
+        this.components = new ComponentCodec[recordComponents.length];
+
+        try {
+            for (int i = 0; i < recordComponents.length; i++) {
+                Method accessor = recordComponents[i].getAccessor();
+                accessor.setAccessible(true);
+                parameterTypes[i] = recordComponents[i].getType();
+                components[i] = ComponentCodec.of(parameterTypes[i], lookup.unreflect(accessor));
+            }
+
+            Constructor<?> canonical = type.getDeclaredConstructor(parameterTypes);
+            canonical.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, parameterTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException | SecurityException e) {
+            throw new EventProcessException("Cannot access record components of " + type.getName(), e);
+        }
+    }
+
+    static @NonNull RecordLayout of(final @NonNull Class<?> type) {
+        return LAYOUTS.get(type);
+    }
+
+    @NonNull Class<?> type() {
+        return type;
+    }
+
+    int typeId() {
+        return typeId;
+    }
+
+    short version() {
+        return (short) components.length;
+    }
+
+    void writePayload(final @NonNull Object record, final @NonNull ByteBuffer buffer) throws Throwable {
+        for (ComponentCodec component : components) component.write(record, buffer);
+    }
+
+    @NonNull Object readPayload(final @NonNull ByteBuffer buffer, final int version) {
+        Object[] arguments = new Object[components.length];
+        int present = Math.min(version, components.length);
+
+        for (int i = 0; i < present; i++) arguments[i] = components[i].read(buffer);
+        for (int i = present; i < components.length; i++) arguments[i] = components[i].defaultValue();
+
+        try {
+            return (Object) constructor.invokeExact(arguments);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new EventProcessException("Failed to construct " + type.getName(), e);
+        }
+    }
+
+}
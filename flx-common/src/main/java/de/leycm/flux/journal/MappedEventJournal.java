@@ -0,0 +1,511 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.journal;
+
+import de.leycm.flux.codec.EventCodec;
+import de.leycm.flux.event.Event;
+import de.leycm.flux.exception.EventProcessException;
+import de.leycm.flux.registry.EventExecutorBus;
+import de.leycm.flux.registry.EventStage;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, memory-mapped journal of fired events.
+ *
+ * <p>The journal attaches itself to its bus as an {@link EventStage}: every fired event is
+ * encoded by the configured {@link EventCodec} straight into a mapped segment file, without
+ * intermediate buffers. Events that cannot be journaled are counted as dropped and still
+ * dispatched. Journaled events can later be re-dispatched with {@link #replay(long, long)}.</p>
+ *
+ * <p><strong>Storage Layout:</strong></p>
+ * <ul>
+ *   <li>Segments: fixed-size files named {@code journal-<first sequence>.flx}</li>
+ *   <li>Records: a 4 byte length followed by the encoded event, a length of zero marks the end</li>
+ *   <li>Sequences: every record gets a monotonically increasing sequence number</li>
+ *   <li>Rollover: a new segment is started once a record does not fit the active one,
+ *       records larger than an empty segment are rejected</li>
+ *   <li>Retention: only the newest {@code retainedSegments} segment files are kept</li>
+ *   <li>Flushing: a background thread forces written records to disk every {@code flushInterval},
+ *       so firing never waits for the storage device</li>
+ * </ul>
+ *
+ * <p>The length of a record is written after its payload, so a crash never exposes a
+ * partially written record. Reopening a directory resumes after the last complete record.</p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+public final class MappedEventJournal implements EventStage, AutoCloseable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_RETAINED_SEGMENTS = 8;
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(100);
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".flx";
+    private static final int RECORD_HEADER = Integer.BYTES;
+
+    private final EventExecutorBus bus;
+    private final EventCodec codec;
+    private final Path directory;
+    private final int segmentSize;
+    private final int retainedSegments;
+    private final long flushIntervalNanos;
+
+    private final List<Segment> segments;
+    private final List<MappedByteBuffer> retired;
+    private final ReentrantLock lock;
+    private final LongAdder dropped;
+    private final Thread flusher;
+
+    private MappedByteBuffer active;
+    private long nextSequence;
+    private boolean dirty;
+    private volatile boolean closed;
+    private volatile RuntimeException flushFailure;
+
+    public MappedEventJournal(final @NonNull EventExecutorBus bus,
+                              final @NonNull EventCodec codec,
+                              final @NonNull Path directory) throws IOException {
+        this(bus, codec, directory, DEFAULT_SEGMENT_SIZE, DEFAULT_RETAINED_SEGMENTS, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    public MappedEventJournal(final @NonNull EventExecutorBus bus,
+                              final @NonNull EventCodec codec,
+                              final @NonNull Path directory,
+                              final int segmentSize,
+                              final int retainedSegments,
+                              final @NonNull Duration flushInterval) throws IOException {
+        Objects.requireNonNull(bus, "EventExecutorBus cannot be null");
+        Objects.requireNonNull(codec, "EventCodec cannot be null");
+        Objects.requireNonNull(directory, "Directory cannot be null");
+        Objects.requireNonNull(flushInterval, "Flush interval cannot be null");
+
+        if (segmentSize <= RECORD_HEADER)
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        if (retainedSegments < 1)
+            throw new IllegalArgumentException("At least one segment must be retained: " + retainedSegments);
+        if (flushInterval.isNegative() || flushInterval.isZero())
+            throw new IllegalArgumentException("Flush interval must be positive: " + flushInterval);
+
+        this.bus = bus;
+        this.codec = codec;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.retainedSegments = retainedSegments;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.segments = new ArrayList<>();
+        this.retired = new ArrayList<>();
+        this.lock = new ReentrantLock();
+        this.dropped = new LongAdder();
+
+        Files.createDirectories(directory);
+        recover();
+
+        this.flusher = new Thread(this::flushLoop, "flux-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+
+        bus.addStage(this);
+    }
+
+    @Override
+    public void accept(final @NonNull Event event) {
+        lock.lock();
+        try {
+            if (!closed) append(event);
+        } catch (RuntimeException e) {
+            // journaling must never prevent the local dispatch of the event
+            dropped.increment();
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the given event to the journal.
+     *
+     * @param event the event to journal
+     * @return the sequence number assigned to the record
+     * @throws EventProcessException if the journal is closed, the event cannot be encoded
+     *                               or does not fit into an empty segment
+     */
+    public long append(final @NonNull Event event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+
+        lock.lock();
+        try {
+            ensureOpen();
+
+            if (!write(active, event)) {
+                if (active.position() == 0 || !roll() || !write(active, event))
+                    throw new EventProcessException("Event exceeds journal segment size: " + event.debug());
+            }
+
+            dirty = true;
+            return nextSequence++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Re-dispatches all journaled events with a sequence in {@code [from, to)} to the bus
+     * this journal was created for.
+     *
+     * @param from first sequence to replay, inclusive
+     * @param to   last sequence to replay, exclusive
+     * @return the number of replayed events
+     * @see #replay(EventExecutorBus, long, long)
+     */
+    public long replay(final long from, final long to) {
+        return replay(bus, from, to);
+    }
+
+    /**
+     * Re-dispatches all journaled events with a sequence in {@code [from, to)} to the given bus.
+     * <p>
+     * Events are handed to {@link EventExecutorBus#dispatch(Event)}, so they reach the handlers
+     * without passing the stages again and are not journaled a second time. Sequences that were
+     * already removed by retention are skipped.
+     * </p>
+     *
+     * @param target the bus to dispatch the events to
+     * @param from   first sequence to replay, inclusive
+     * @param to     last sequence to replay, exclusive
+     * @return the number of replayed events
+     * @throws EventProcessException if a segment cannot be read or a record cannot be decoded
+     */
+    public long replay(final @NonNull EventExecutorBus target, final long from, final long to) {
+        Objects.requireNonNull(target, "EventExecutorBus cannot be null");
+
+        List<Segment> snapshot;
+        ByteBuffer activeView;
+
+        lock.lock();
+        try {
+            ensureOpen();
+            snapshot = new ArrayList<>(segments);
+            activeView = active.duplicate().flip();
+        } finally {
+            lock.unlock();
+        }
+
+        long replayed = 0;
+        for (int i = 0; i < snapshot.size(); i++) {
+            Segment segment = snapshot.get(i);
+            long end = i + 1 < snapshot.size() ? snapshot.get(i + 1).baseSequence() : Long.MAX_VALUE;
+            if (end <= from || segment.baseSequence() >= to) continue;
+
+            ByteBuffer buffer = i + 1 < snapshot.size() ? mapReadOnly(segment) : activeView;
+            if (buffer == null) continue;
+
+            replayed += replaySegment(target, buffer, segment.baseSequence(), from, to);
+        }
+        return replayed;
+    }
+
+    /**
+     * Forces all appended records to the storage device on the calling thread.
+     *
+     * @throws EventProcessException if the journal is closed or a previous background
+     *                               flush failed
+     */
+    public void flush() {
+        ensureOpen();
+        sync();
+        rethrowFlushFailure();
+    }
+
+    /**
+     * Returns the number of fired events that were not journaled because they could not
+     * be encoded or exceeded the segment size.
+     *
+     * @return the dropped event count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the sequence number of the oldest record still retained.
+     *
+     * @return the first retained sequence
+     */
+    public long firstSequence() {
+        lock.lock();
+        try {
+            return segments.get(0).baseSequence();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the sequence number the next appended record will receive.
+     *
+     * @return the next sequence
+     */
+    public long nextSequence() {
+        lock.lock();
+        try {
+            return nextSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the journal, removes it from the stages of its bus and forces all appended
+     * records to the storage device. Events fired afterwards are no longer journaled.
+     *
+     * @throws EventProcessException if a background flush failed
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+
+        bus.removeStage(this);
+
+        LockSupport.unpark(flusher);
+        boolean interrupted = false;
+        while (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+
+        sync();
+        rethrowFlushFailure();
+    }
+
+    // ==================== Internal Methods ====================
+
+    private void flushLoop() {
+        while (!closed) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            try {
+                sync();
+            } catch (RuntimeException e) {
+                flushFailure = e;
+            }
+        }
+    }
+
+    private void sync() {
+        List<MappedByteBuffer> pending;
+        MappedByteBuffer current;
+
+        lock.lock();
+        try {
+            if (!dirty && retired.isEmpty()) return;
+
+            pending = new ArrayList<>(retired);
+            retired.clear();
+            current = dirty ? active : null;
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            for (MappedByteBuffer buffer : pending) buffer.force();
+            if (current != null) current.force();
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                retired.addAll(pending);
+                dirty |= current != null;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    private void rethrowFlushFailure() {
+        RuntimeException failure = flushFailure;
+        if (failure == null) return;
+
+        flushFailure = null;
+        throw new EventProcessException("Failed to flush journal in " + directory, failure);
+    }
+
+    private boolean write(final @NonNull ByteBuffer buffer, final @NonNull Event event) {
+        int start = buffer.position();
+        if (buffer.capacity() - start <= RECORD_HEADER) return false;
+
+        try {
+            buffer.position(start + RECORD_HEADER);
+            codec.encode(event, buffer);
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            return false;
+        } catch (RuntimeException e) {
+            buffer.position(start);
+            throw e;
+        }
+
+        int length = buffer.position() - start - RECORD_HEADER;
+        if (length == 0) {
+            buffer.position(start);
+            throw new EventProcessException("Codec produced an empty record for event: " + event.debug());
+        }
+
+        buffer.putInt(start, length);
+        return true;
+    }
+
+    private long replaySegment(final @NonNull EventExecutorBus target,
+                               final @NonNull ByteBuffer buffer,
+                               final long baseSequence,
+                               final long from,
+                               final long to) {
+        long sequence = baseSequence;
+        long replayed = 0;
+        int position = 0;
+
+        while (position + RECORD_HEADER <= buffer.limit() && sequence < to) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER + length > buffer.limit()) break;
+
+            if (sequence >= from) {
+                Event event = codec.decode(buffer.slice(position + RECORD_HEADER, length));
+                target.dispatch(event);
+                replayed++;
+            }
+
+            position += RECORD_HEADER + length;
+            sequence++;
+        }
+        return replayed;
+    }
+
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(Path::getFileName)
+                    .map(Path::toString)
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))
+                    .mapToLong(Long::parseLong)
+                    .sorted()
+                    .forEach(base -> segments.add(new Segment(base, segmentPath(base))));
+        }
+
+        if (segments.isEmpty()) {
+            openSegment(0);
+            return;
+        }
+
+        Segment last = segments.get(segments.size() - 1);
+        active = map(last.path(), Math.max(segmentSize, (int) Files.size(last.path())));
+
+        long count = 0;
+        int position = 0;
+        while (position + RECORD_HEADER <= active.capacity()) {
+            int length = active.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER + length > active.capacity()) break;
+            position += RECORD_HEADER + length;
+            count++;
+        }
+
+        active.position(position);
+        nextSequence = last.baseSequence() + count;
+    }
+
+    private boolean roll() {
+        // a segment starting at the same sequence would re-map the active file
+        if (segments.get(segments.size() - 1).baseSequence() == nextSequence) return false;
+
+        retired.add(active);
+        dirty = false;
+
+        try {
+            openSegment(nextSequence);
+        } catch (IOException e) {
+            throw new EventProcessException("Failed to roll journal segment in " + directory, e);
+        }
+
+        while (segments.size() > retainedSegments) {
+            Segment expired = segments.remove(0);
+            try {
+                Files.deleteIfExists(expired.path());
+            } catch (IOException ignored) {
+                // still mapped by a running replay on some platforms, the file is orphaned
+            }
+        }
+        return true;
+    }
+
+    private void openSegment(final long baseSequence) throws IOException {
+        Path path = segmentPath(baseSequence);
+        active = map(path, segmentSize);
+        nextSequence = baseSequence;
+        segments.add(new Segment(baseSequence, path));
+    }
+
+    private @NonNull MappedByteBuffer map(final @NonNull Path path, final int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private ByteBuffer mapReadOnly(final @NonNull Segment segment) {
+        try (FileChannel channel = FileChannel.open(segment.path(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new EventProcessException("Failed to read journal segment: " + segment.path(), e);
+        }
+    }
+
+    private @NonNull Path segmentPath(final long baseSequence) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", baseSequence) + SEGMENT_SUFFIX);
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new EventProcessException("Journal is closed: " + directory);
+    }
+
+    private record Segment(long baseSequence, @NonNull Path path) { }
+
+}
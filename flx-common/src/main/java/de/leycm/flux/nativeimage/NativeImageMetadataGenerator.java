@@ -0,0 +1,268 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.nativeimage;
+
+import de.leycm.flux.handler.Handler;
+import de.leycm.flux.handler.HandlerList;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Build-time generator of GraalVM native-image reflection metadata for handler lists.
+ *
+ * <p>The bus discovers handlers with {@code getDeclaredMethods()} and invokes them
+ * reflectively, which a closed-world native image only supports for registered elements.
+ * This generator scans class directories and jars for {@link HandlerList} implementations
+ * and writes a {@code reflect-config.json} that registers:</p>
+ * <ul>
+ *   <li>Handler lists: declared method queries and every {@link Handler} method</li>
+ *   <li>Record events: accessors and canonical constructor, as used by the binary codec</li>
+ *   <li>Enum components: their {@code values()} method</li>
+ * </ul>
+ *
+ * <p>Usage: {@code NativeImageMetadataGenerator <output directory> <class directory or jar>...}.
+ * The scanned entries must be resolvable together with the current class path. Generation
+ * fails if a scanned class cannot be loaded or if no handler list is found, since either
+ * would leave handlers unregistered in the image.</p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+public final class NativeImageMetadataGenerator {
+
+    public static final String FILE_NAME = "reflect-config.json";
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final Map<String, Entry> entries;
+    private final Map<String, Throwable> skipped;
+    private int handlerLists;
+
+    private NativeImageMetadataGenerator() {
+        this.entries = new LinkedHashMap<>();
+        this.skipped = new TreeMap<>();
+    }
+
+    public static void main(final String @NonNull [] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: NativeImageMetadataGenerator <output directory> <class directory or jar>...");
+            System.exit(1);
+        }
+
+        List<Path> roots = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) roots.add(Path.of(args[i]));
+
+        try {
+            Path output = generate(Path.of(args[0]), roots);
+            System.out.println("Native-image metadata written to " + output);
+        } catch (IOException e) {
+            System.err.println("Native-image metadata generation failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Scans the given class directories and jars and writes the reflection metadata.
+     *
+     * @param outputDirectory directory the {@value #FILE_NAME} is written to
+     * @param roots           class directories and jars to scan
+     * @return the path of the written file
+     * @throws IOException if scanning or writing fails, a scanned class cannot be loaded or
+     *                     no handler list is found
+     */
+    public static @NonNull Path generate(final @NonNull Path outputDirectory,
+                                         final @NonNull List<Path> roots) throws IOException {
+        URL[] urls = new URL[roots.size()];
+        for (int i = 0; i < urls.length; i++) urls[i] = toUrl(roots.get(i));
+
+        NativeImageMetadataGenerator generator = new NativeImageMetadataGenerator();
+        try (URLClassLoader loader = new URLClassLoader(urls, NativeImageMetadataGenerator.class.getClassLoader())) {
+            for (Path root : roots) {
+                for (String className : classNames(root)) generator.inspect(loader, className);
+            }
+        }
+
+        if (!generator.skipped.isEmpty()) throw generator.loadFailure();
+        if (generator.handlerLists == 0)
+            throw new IOException("No HandlerList implementations found in " + roots);
+
+        Files.createDirectories(outputDirectory);
+        Path output = outputDirectory.resolve(FILE_NAME);
+        Files.writeString(output, generator.toJson(), StandardCharsets.UTF_8);
+        return output;
+    }
+
+    // ==================== Internal Methods ====================
+
+    private void inspect(final @NonNull ClassLoader loader, final @NonNull String className) {
+        Class<?> type;
+        try {
+            type = Class.forName(className, false, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            skipped.put(className, e);
+            return;
+        }
+
+        if (!HandlerList.class.isAssignableFrom(type) || type.isInterface()
+                || Modifier.isAbstract(type.getModifiers())) return;
+
+        handlerLists++;
+        Entry list = entry(type);
+        list.queryMethods = true;
+
+        for (Method method : type.getDeclaredMethods()) {
+            if (!method.isAnnotationPresent(Handler.class)) continue;
+
+            list.methods.add(signature(method.getName(), method.getParameterTypes()));
+            for (Class<?> parameter : method.getParameterTypes()) registerValueType(parameter);
+        }
+    }
+
+    private void registerValueType(final @NonNull Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getName().startsWith("java.")) return;
+        if (entries.containsKey(type.getName()) && !entries.get(type.getName()).methods.isEmpty()) return;
+
+        if (type.isEnum()) {
+            entry(type).methods.add(signature("values", new Class<?>[0]));
+            return;
+        }
+
+        if (!type.isRecord()) return;
+
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        Entry entry = entry(type);
+        entry.queryMethods = true;
+
+        for (int i = 0; i < components.length; i++) {
+            parameterTypes[i] = components[i].getType();
+            entry.methods.add(signature(components[i].getName(), new Class<?>[0]));
+        }
+        entry.methods.add(signature("<init>", parameterTypes));
+
+        for (Class<?> componentType : parameterTypes) registerValueType(componentType);
+    }
+
+    private @NonNull IOException loadFailure() {
+        StringBuilder message = new StringBuilder("Cannot load ").append(skipped.size())
+                .append(" scanned classes, add their dependencies to the class path:");
+        for (Map.Entry<String, Throwable> entry : skipped.entrySet()) {
+            message.append("\n  ").append(entry.getKey()).append(" (").append(entry.getValue()).append(')');
+        }
+
+        IOException failure = new IOException(message.toString());
+        skipped.values().forEach(failure::addSuppressed);
+        return failure;
+    }
+
+    private @NonNull Entry entry(final @NonNull Class<?> type) {
+        return entries.computeIfAbsent(type.getName(), Entry::new);
+    }
+
+    private @NonNull String toJson() {
+        StringBuilder json = new StringBuilder("[\n");
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(Comparator.comparing(entry -> entry.name));
+
+        for (int i = 0; i < sorted.size(); i++) {
+            Entry entry = sorted.get(i);
+            json.append("  {\n    \"name\": \"").append(entry.name).append('"');
+            if (entry.queryMethods) {
+                json.append(",\n    \"queryAllDeclaredMethods\": true")
+                        .append(",\n    \"queryAllDeclaredConstructors\": true");
+            }
+            json.append(",\n    \"methods\": [");
+
+            int j = 0;
+            for (String method : entry.methods) {
+                json.append(j++ == 0 ? "\n" : ",\n").append("      ").append(method);
+            }
+            json.append(entry.methods.isEmpty() ? "]\n" : "\n    ]\n");
+            json.append(i + 1 < sorted.size() ? "  },\n" : "  }\n");
+        }
+        return json.append("]\n").toString();
+    }
+
+    private static @NonNull String signature(final @NonNull String name,
+                                             final @NonNull Class<?> @NonNull [] parameterTypes) {
+        StringBuilder signature = new StringBuilder("{ \"name\": \"").append(name)
+                .append("\", \"parameterTypes\": [");
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) signature.append(", ");
+            signature.append('"').append(parameterTypes[i].getTypeName()).append('"');
+        }
+        return signature.append("] }").toString();
+    }
+
+    private static @NonNull List<String> classNames(final @NonNull Path root) throws IOException {
+        List<String> names = new ArrayList<>();
+
+        if (Files.isDirectory(root)) {
+            try (Stream<Path> files = Files.walk(root)) {
+                files.filter(file -> file.toString().endsWith(CLASS_SUFFIX))
+                        .map(file -> root.relativize(file).toString())
+                        .forEach(file -> names.add(toClassName(file.replace(root.getFileSystem().getSeparator(), "/"))));
+            }
+        } else if (Files.isRegularFile(root)) {
+            try (JarFile jar = new JarFile(root.toFile())) {
+                jar.stream().map(JarEntry::getName)
+                        .filter(name -> name.endsWith(CLASS_SUFFIX) && !name.startsWith("META-INF/"))
+                        .forEach(name -> names.add(toClassName(name)));
+            }
+        }
+
+        names.removeIf(name -> name.endsWith("module-info") || name.endsWith("package-info"));
+        return names;
+    }
+
+    private static @NonNull String toClassName(final @NonNull String path) {
+        return path.substring(0, path.length() - CLASS_SUFFIX.length()).replace('/', '.');
+    }
+
+    private static @NonNull URL toUrl(final @NonNull Path path) {
+        try {
+            return path.toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid class path entry: " + path, e);
+        }
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final TreeSet<String> methods = new TreeSet<>();
+        private boolean queryMethods;
+
+        private Entry(final @NonNull String name) {
+            this.name = name;
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+/**
+ * Enum representing how a {@link HashEventExecutorBus} handles events fired from within handlers.
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ * @see HashEventExecutorBus#HashEventExecutorBus(DispatchMode, int)
+ */
+public enum DispatchMode {
+    /**
+     * Direct dispatch - nested fires are handled immediately and recursively on the stack
+     * of the firing handler.
+     */
+    DIRECT,
+
+    /**
+     * Queued dispatch - nested fires on the same thread are queued and handled breadth-first
+     * after the outermost dispatch finished, keeping the stack depth constant.
+     */
+    QUEUED;
+
+    /**
+     * Checks if this mode is the queued mode.
+     *
+     * @return {@code true} if this mode is {@code QUEUED}, {@code false} otherwise
+     */
+    public boolean isQueued() {
+        return this.equals(QUEUED);
+    }
+
+}
@@ -0,0 +1,37 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+import de.leycm.flux.handler.HandlerList;
+import lombok.NonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * Weak reference to a weakly registered {@link HandlerList} that remembers the list class,
+ * so the registry entry can be removed after the list was collected.
+ */
+final class HandlerReference extends WeakReference<HandlerList> {
+
+    private final Class<? extends HandlerList> listClass;
+
+    HandlerReference(final @NonNull HandlerList list,
+                     final @NonNull ReferenceQueue<? super HandlerList> queue) {
+        super(list, queue);
+        this.listClass = list.getClass();
+    }
+
+    @NonNull Class<? extends HandlerList> listClass() {
+        return listClass;
+    }
+
+}
@@ -10,8 +10,14 @@
  */
 package de.leycm.flux.registry;
 
+import de.leycm.flux.event.Cancelable;
 import de.leycm.flux.event.Event;
+import de.leycm.flux.event.Immutable;
 import de.leycm.flux.event.Monitorable;
+import de.leycm.flux.event.QueryEvent;
+import de.leycm.flux.event.QuerySlot;
+import de.leycm.flux.event.Sticky;
+import de.leycm.flux.event.Viewable;
 import de.leycm.flux.exception.EventProcessException;
 import de.leycm.flux.exception.HandlerRegistrationException;
 import de.leycm.flux.exception.NotMonitorableException;
@@ -20,11 +26,28 @@ import de.leycm.flux.handler.HandlerList;
 import de.leycm.flux.handler.HandlerPriority;
 import lombok.NonNull;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.reflect.InaccessibleObjectException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Thread-safe, high-performance event executor bus implementation.
@@ -38,6 +61,63 @@ import java.util.concurrent.locks.StampedLock;
  *   <li>Class-based tracking: Only one instance per HandlerList class can be registered</li>
  *   <li>Duplicate prevention: Attempting to register the same class twice throws exception</li>
  *   <li>Instance equality: unregister() works with any instance of the same class</li>
+ *   <li>Weak registration: registerWeakly() lists are pruned once they are garbage collected</li>
+ *   <li>Lazy registration: lists registered by class are created on the first event they handle</li>
+ * </ul>
+ *
+ * <p><strong>Sticky Events:</strong></p>
+ * <ul>
+ *   <li>Caching: the latest dispatched instance of every {@link Sticky} type is kept per bus</li>
+ *   <li>Replay on registration: new handler lists immediately receive cached events they handle</li>
+ *   <li>Delivery: a list registered while a sticky event is fired may receive it twice</li>
+ * </ul>
+ *
+ * <p><strong>Scheduled Events:</strong></p>
+ * <ul>
+ *   <li>Timer: fireLater() and fireAt() use a hierarchical timing wheel with O(1) insert and cancel</li>
+ *   <li>Resolution: deadlines are rounded up to the next tick of one millisecond</li>
+ *   <li>Dispatch: events expiring in the same tick are fired as a batch on the timer thread</li>
+ *   <li>Shutdown: close() on the root stops the timer thread and cancels pending events,
+ *       it restarts on demand; closing a child has no effect</li>
+ * </ul>
+ *
+ * <p><strong>Queued Dispatch:</strong></p>
+ * <ul>
+ *   <li>Direct mode: events fired by handlers are dispatched recursively, the default</li>
+ *   <li>Queued mode: nested fires on the same thread return immediately and are dispatched
+ *       breadth-first once the outermost fire finished its own handlers</li>
+ *   <li>Depth limit: a nested fire beyond the maximum cascade depth fails the cascade</li>
+ *   <li>Statistics: cascade counters are kept per root bus</li>
+ * </ul>
+ *
+ * <p><strong>Monitoring:</strong></p>
+ * <ul>
+ *   <li>Shared: {@link Immutable} events are passed as-is, even if they could be viewed or copied</li>
+ *   <li>Views: {@link Viewable} events pass a read-only view, allocation independent of event size</li>
+ *   <li>Copies: other {@link Monitorable} events pass a copy</li>
+ *   <li>Records: remaining records of immutable components are passed as-is</li>
+ *   <li>Caching: the strategy is resolved once per event type</li>
+ * </ul>
+ *
+ * <p><strong>Rate Limiting:</strong></p>
+ * <ul>
+ *   <li>Token buckets: per-type limits are enforced on fire() with a single CAS per event</li>
+ *   <li>Overload: excess events are dropped, canceled or deferred to the next window</li>
+ *   <li>Scope: limits apply to the bus they are set on, dispatch() and propagation bypass them</li>
+ * </ul>
+ *
+ * <p><strong>Deferred Dispatch:</strong></p>
+ * <ul>
+ *   <li>Posting: post() appends to a buffer owned by the calling thread without contention</li>
+ *   <li>Flushing: flush() fires all buffered events on the calling thread, grouped by type</li>
+ *   <li>Cleanup: buffers of terminated threads are removed once they were drained</li>
+ * </ul>
+ *
+ * <p><strong>Scoped Children:</strong></p>
+ * <ul>
+ *   <li>Isolation: every child bus owns its registry, fan-out only covers the scope's handlers</li>
+ *   <li>Propagation: propagating children fire their events on the parent after local dispatch</li>
+ *   <li>Sharing: children are created lazily per scope and share the root's infrastructure</li>
  * </ul>
  *
  * @author LeyCM
@@ -46,76 +126,417 @@ import java.util.concurrent.locks.StampedLock;
 public final class HashEventExecutorBus implements EventExecutorBus {
 
     private static final int INITIAL_CAPACITY = 32;
+    private static final int EXPUNGE_BATCH = 16;
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 4;
+
+    public static final int DEFAULT_MAX_CASCADE_DEPTH = 64;
     private static final HandlerExecutor[] EMPTY_EXECUTORS = new HandlerExecutor[0];
+    private static final EventStage[] EMPTY_STAGES = new EventStage[0];
+
+    private static final ClassValue<MonitorStrategy> MONITOR_STRATEGIES = new ClassValue<>() {
+        @Override
+        protected MonitorStrategy computeValue(final @NonNull Class<?> type) {
+            return MonitorStrategy.of(type);
+        }
+    };
 
     private final Map<Class<? extends HandlerList>, HandlerList> registeredHandlers;
 
+    private final Map<Class<? extends HandlerList>, HandlerReference> weakHandlers;
+
+    private final Map<Class<? extends HandlerList>, LazyHandlerOwner> lazyHandlers;
+
+    private final ReferenceQueue<HandlerList> collectedHandlers;
+
     private final Map<Class<? extends Event>, HandlerExecutor[]> executorCache;
 
+    private final Map<Class<? extends Event>, Event> stickyEvents;
+
     private final StampedLock lock;
 
+    private volatile EventStage[] stages;
+
+    private final HashEventExecutorBus parent;
+
+    private final HashEventExecutorBus root;
+
+    private final boolean propagate;
+
+    private final Map<String, HashEventExecutorBus> children;
+
+    private volatile TimingWheel timingWheel;
+
+    private final DispatchMode dispatchMode;
+
+    private final int maxCascadeDepth;
+
+    private final ThreadLocal<Cascade> cascades;
+
+    private final LongAdder cascadeCount;
+
+    private final LongAdder cascadedEvents;
+
+    private final AtomicLong largestCascade;
+
+    private final Map<Class<? extends Event>, RateLimiter> rateLimits;
+
+    private final ThreadLocal<PostBuffer> threadBuffers;
+
+    private final List<PostBuffer> postBuffers;
+
+    private final ReentrantLock flushLock;
+
     public HashEventExecutorBus() {
+        this(DispatchMode.DIRECT, DEFAULT_MAX_CASCADE_DEPTH);
+    }
+
+    public HashEventExecutorBus(final @NonNull DispatchMode dispatchMode, final int maxCascadeDepth) {
+        this(null, false, dispatchMode, maxCascadeDepth);
+    }
+
+    private HashEventExecutorBus(final HashEventExecutorBus parent,
+                                 final boolean propagate,
+                                 final @NonNull DispatchMode dispatchMode,
+                                 final int maxCascadeDepth) {
+        Objects.requireNonNull(dispatchMode, "DispatchMode cannot be null");
+        if (maxCascadeDepth < 1)
+            throw new IllegalArgumentException("Max cascade depth must be positive: " + maxCascadeDepth);
+
+        this.parent = parent;
+        this.root = parent == null ? this : parent.root;
+        this.propagate = propagate;
+        this.dispatchMode = dispatchMode;
+        this.maxCascadeDepth = maxCascadeDepth;
+        this.cascades = parent == null ? ThreadLocal.withInitial(Cascade::new) : null;
+        this.cascadeCount = parent == null ? new LongAdder() : null;
+        this.cascadedEvents = parent == null ? new LongAdder() : null;
+        this.largestCascade = parent == null ? new AtomicLong() : null;
+        this.children = new ConcurrentHashMap<>();
         this.registeredHandlers = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+        this.weakHandlers = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+        this.lazyHandlers = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+        this.collectedHandlers = new ReferenceQueue<>();
         this.executorCache = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+        this.stickyEvents = new ConcurrentHashMap<>();
+        this.rateLimits = new ConcurrentHashMap<>();
+        this.threadBuffers = ThreadLocal.withInitial(this::newPostBuffer);
+        this.postBuffers = new CopyOnWriteArrayList<>();
+        this.flushLock = new ReentrantLock();
         this.lock = new StampedLock();
+        this.stages = EMPTY_STAGES;
     }
 
     @Override
     public void fire(final @NonNull Event event) {
         Objects.requireNonNull(event, "Event cannot be null");
 
+        if (!rateLimits.isEmpty() && !admit(event)) return;
+
+        fireAdmitted(event);
+    }
+
+    @Override
+    public @NonNull ScheduledEvent fireLater(final @NonNull Event event, final @NonNull Duration delay) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        Objects.requireNonNull(delay, "Delay cannot be null");
+
+        long delayNanos = delay.compareTo(Duration.ofNanos(MAX_DELAY_NANOS)) > 0
+                ? MAX_DELAY_NANOS : delay.toNanos();
+        return timingWheel().schedule(event, () -> fire(event), delayNanos);
+    }
+
+    @Override
+    public @NonNull ScheduledEvent fireAt(final @NonNull Event event, final @NonNull Instant instant) {
+        Objects.requireNonNull(instant, "Instant cannot be null");
+        return fireLater(event, Duration.between(Instant.now(), instant));
+    }
+
+    @Override
+    public void post(final @NonNull Event event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        threadBuffers.get().add(event);
+    }
+
+    @Override
+    public int flush() {
+        Map<Class<? extends Event>, List<Event>> groups = new HashMap<>();
+        int count = 0;
+
+        flushLock.lock();
+        try {
+            for (PostBuffer buffer : postBuffers) {
+                count += buffer.drainTo(groups);
+                if (!buffer.isOwnerAlive()) {
+                    count += buffer.drainTo(groups);
+                    postBuffers.remove(buffer);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+
+        if (count == 0) return 0;
+
+        List<Class<? extends Event>> types = new ArrayList<>(groups.keySet());
+        types.sort(Comparator.comparing(Class::getName));
+
+        RuntimeException failure = null;
+        for (Class<? extends Event> type : types) {
+            for (Event event : groups.get(type)) {
+                try {
+                    fire(event);
+                } catch (RuntimeException e) {
+                    if (failure == null) failure = e;
+                    else failure.addSuppressed(e);
+                }
+            }
+        }
+
+        if (failure != null) throw failure;
+        return count;
+    }
+
+    @Override
+    public void dispatch(final @NonNull Event event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+
+        dispatchLocal(event);
+
+        if (propagate) parent.dispatch(event);
+    }
+
+    @Override
+    public <R> @NonNull Optional<R> query(final @NonNull QueryEvent<R> event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+
         Class<? extends Event> eventType = event.getClass();
+        HandlerExecutor[] executors = executorCache.get(eventType);
+
+        if (executors != null) {
+            for (HandlerExecutor executor : executors) {
+                if (executor.priority().isMonitor()) break;
 
+                executeHandler(executor, event, eventType);
+                if (event.hasResult()) return Optional.ofNullable(event.getResult());
+            }
+        }
+
+        return propagate ? parent.query(event) : Optional.empty();
+    }
+
+    @Override
+    public <R> @NonNull CompletableFuture<Optional<R>> queryAsync(final @NonNull QueryEvent<R> event,
+                                                                 final @NonNull Executor executor) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+
+        Class<? extends Event> eventType = event.getClass();
         HandlerExecutor[] executors = executorCache.get(eventType);
 
-        if (executors == null) return;
+        int candidates = 0;
+        if (executors != null) {
+            while (candidates < executors.length && !executors[candidates].priority().isMonitor())
+                candidates++;
+        }
 
-        executeHandlers(executors, event, eventType);
+        if (candidates == 0) {
+            return propagate ? parent.queryAsync(event, executor)
+                    : CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        CompletableFuture<Optional<R>> result = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(candidates);
+        AtomicBoolean answered = new AtomicBoolean();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Runnable settle = () -> {
+            if (remaining.decrementAndGet() == 0 && !result.isDone())
+                completeUnanswered(result, failure.get(), event, executor);
+        };
+
+        for (int i = 0; i < candidates; i++) {
+            HandlerExecutor handler = executors[i];
+            try {
+                executor.execute(() -> {
+                    try {
+                        if (result.isDone()) return;
+
+                        R value;
+                        try (QuerySlot<R> slot = QuerySlot.open(event)) {
+                            executeHandler(handler, event, eventType);
+                            value = slot.getResult();
+                        }
+
+                        if (value != null && answered.compareAndSet(false, true)) {
+                            event.setResult(value);
+                            result.complete(Optional.of(value));
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        settle.run();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                failure.compareAndSet(null, e);
+                settle.run();
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void setRateLimit(final @NonNull Class<? extends Event> eventType,
+                             final int permitsPerSecond,
+                             final int burst,
+                             final @NonNull OverloadPolicy policy) {
+        Objects.requireNonNull(eventType, "Event type cannot be null");
+        Objects.requireNonNull(policy, "OverloadPolicy cannot be null");
+        if (permitsPerSecond < 1)
+            throw new IllegalArgumentException("Permits per second must be positive: " + permitsPerSecond);
+        if (burst < 1)
+            throw new IllegalArgumentException("Burst must be positive: " + burst);
+
+        rateLimits.put(eventType, new RateLimiter(permitsPerSecond, burst, policy));
+    }
+
+    @Override
+    public boolean removeRateLimit(final @NonNull Class<? extends Event> eventType) {
+        Objects.requireNonNull(eventType, "Event type cannot be null");
+        return rateLimits.remove(eventType) != null;
+    }
+
+    @Override
+    public long getShedCount(final @NonNull Class<? extends Event> eventType) {
+        Objects.requireNonNull(eventType, "Event type cannot be null");
+        RateLimiter limiter = rateLimits.get(eventType);
+        return limiter != null ? limiter.shedCount() : 0L;
+    }
+
+    @Override
+    public void addStage(final @NonNull EventStage stage) {
+        Objects.requireNonNull(stage, "EventStage cannot be null");
+
+        long stamp = lock.writeLock();
+        try {
+            EventStage[] current = stages;
+            EventStage[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = stage;
+            stages = updated;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeStage(final @NonNull EventStage stage) {
+        Objects.requireNonNull(stage, "EventStage cannot be null");
+
+        long stamp = lock.writeLock();
+        try {
+            List<EventStage> remaining = new ArrayList<>(Arrays.asList(stages));
+            if (!remaining.remove(stage)) return false;
+
+            stages = remaining.toArray(EMPTY_STAGES);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     @Override
     public void register(final @NonNull HandlerList list) {
         Objects.requireNonNull(list, "HandlerList cannot be null");
+        registerInternal(list, false);
+    }
 
-        Class<? extends HandlerList> listClass = list.getClass();
+    @Override
+    public void registerWeakly(final @NonNull HandlerList list) {
+        Objects.requireNonNull(list, "HandlerList cannot be null");
+        registerInternal(list, true);
+    }
+
+    @Override
+    public <T extends HandlerList> void register(final @NonNull Class<T> listClass,
+                                                 final @NonNull Supplier<? extends T> supplier) {
+        Objects.requireNonNull(listClass, "HandlerList class cannot be null");
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
 
-        if (registeredHandlers.containsKey(listClass)) {
+        if (isClassRegistered(listClass)) {
             throw new HandlerRegistrationException(
                     "HandlerList class already registered: " + listClass.getName());
         }
 
+        Map<Class<? extends Event>, List<HandlerExecutor>> newHandlers;
+
         long stamp = lock.writeLock();
         try {
-            if (registeredHandlers.containsKey(listClass)) {
+            expungeCollected(EXPUNGE_BATCH);
+
+            if (isClassRegistered(listClass)) {
                 throw new HandlerRegistrationException(
                         "HandlerList class already registered: " + listClass.getName());
             }
+            expungeCleared(listClass);
 
-            registerHandlersInternal(list);
-            registeredHandlers.put(listClass, list);
-        } catch (Exception e) {
-            registeredHandlers.remove(listClass);
-            throw e;
+            LazyHandlerOwner owner = new LazyHandlerOwner(listClass, supplier);
+            newHandlers = registerHandlersInternal(listClass, (id, priority, method) ->
+                    new LazyHandlerExecutor(id, priority, owner, method));
+            lazyHandlers.put(listClass, owner);
         } finally {
             lock.unlockWrite(stamp);
         }
+
+        deliverStickyEvents(newHandlers);
     }
 
     @Override
     public void unregister(final @NonNull HandlerList list) {
         Objects.requireNonNull(list, "HandlerList cannot be null");
+        unregister(list.getClass());
+    }
 
-        Class<? extends HandlerList> listClass = list.getClass();
+    @Override
+    public void unregister(final @NonNull Class<? extends HandlerList> listClass) {
+        Objects.requireNonNull(listClass, "HandlerList class cannot be null");
 
         HandlerList registered = registeredHandlers.remove(listClass);
-        if (registered == null) {
+        HandlerReference reference = registered == null ? weakHandlers.remove(listClass) : null;
+        LazyHandlerOwner lazy = registered == null && reference == null
+                ? lazyHandlers.remove(listClass) : null;
+        if (registered == null && reference == null && lazy == null) {
             throw new HandlerRegistrationException(
                     "HandlerList class not registered: " + listClass.getName());
         }
 
         long stamp = lock.writeLock();
         try {
-            unregisterHandlersInternal(registered);
+            if (registered != null) {
+                removeExecutors(executor -> executor instanceof ReflectiveHandlerExecutor rhe
+                        && rhe.owner() == registered);
+            } else if (lazy != null) {
+                removeExecutors(executor -> executor instanceof LazyHandlerExecutor lhe
+                        && lhe.owner() == lazy);
+            } else {
+                removeExecutors(executor -> executor instanceof WeakHandlerExecutor whe
+                        && whe.owner() == reference);
+                reference.clear();
+            }
+            expungeCollected(EXPUNGE_BATCH);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Prunes the handlers of all weakly registered lists that were garbage collected.
+     *
+     * @return the number of pruned handler lists
+     */
+    public int expungeCollected() {
+        long stamp = lock.writeLock();
+        try {
+            return expungeCollected(Integer.MAX_VALUE);
         } finally {
             lock.unlockWrite(stamp);
         }
@@ -136,7 +557,7 @@ public final class HashEventExecutorBus implements EventExecutorBus {
     @Override
     public boolean isRegistered(final @NonNull HandlerList list) {
         Objects.requireNonNull(list, "HandlerList cannot be null");
-        return registeredHandlers.containsKey(list.getClass());
+        return isClassRegistered(list.getClass());
     }
 
     @Override
@@ -145,27 +566,242 @@ public final class HashEventExecutorBus implements EventExecutorBus {
         try {
             executorCache.clear();
             registeredHandlers.clear();
+            weakHandlers.clear();
+            lazyHandlers.clear();
         } finally {
             lock.unlockWrite(stamp);
         }
     }
 
+    @Override
+    public void close() {
+        // the timer is shared by the whole hierarchy, children must not stop it
+        if (root != this) return;
+
+        TimingWheel wheel;
+        synchronized (root) {
+            wheel = root.timingWheel;
+            root.timingWheel = null;
+        }
+
+        if (wheel != null) wheel.close();
+    }
+
+    @Override
+    public <E extends Event> @NonNull Optional<E> getSticky(final @NonNull Class<E> eventType) {
+        Objects.requireNonNull(eventType, "Event type cannot be null");
+        return Optional.ofNullable(eventType.cast(stickyEvents.get(eventType)));
+    }
+
+    @Override
+    public boolean removeSticky(final @NonNull Class<? extends Event> eventType) {
+        Objects.requireNonNull(eventType, "Event type cannot be null");
+        return stickyEvents.remove(eventType) != null;
+    }
+
+    @Override
+    public void clearSticky() {
+        stickyEvents.clear();
+    }
+
+    @Override
+    public @NonNull EventExecutorBus child(final @NonNull String scope) {
+        return child(scope, true);
+    }
+
+    @Override
+    public @NonNull EventExecutorBus child(final @NonNull String scope, final boolean propagate) {
+        Objects.requireNonNull(scope, "Scope cannot be null");
+
+        HashEventExecutorBus child = children.computeIfAbsent(scope,
+                key -> new HashEventExecutorBus(this, propagate, dispatchMode, maxCascadeDepth));
+
+        if (child.propagate != propagate) {
+            throw new IllegalArgumentException("Child bus \"" + scope
+                    + "\" already exists with propagate=" + child.propagate);
+        }
+        return child;
+    }
+
+    @Override
+    public boolean removeChild(final @NonNull String scope) {
+        Objects.requireNonNull(scope, "Scope cannot be null");
+
+        HashEventExecutorBus child = children.remove(scope);
+        if (child == null) return false;
+
+        child.clear();
+        return true;
+    }
+
+    @Override
+    public EventExecutorBus parent() {
+        return parent;
+    }
+
+    /**
+     * Returns the number of queued cascades, top-level fires that caused nested fires.
+     *
+     * @return the cascade count of the root bus
+     */
+    public long getCascadeCount() {
+        return root.cascadeCount.sum();
+    }
+
+    /**
+     * Returns the number of nested events that were queued and dispatched by cascades.
+     *
+     * @return the cascaded event count of the root bus
+     */
+    public long getCascadedEventCount() {
+        return root.cascadedEvents.sum();
+    }
+
+    /**
+     * Returns the largest number of events dispatched by a single cascade.
+     *
+     * @return the largest cascade size of the root bus
+     */
+    public long getLargestCascade() {
+        return root.largestCascade.get();
+    }
+
     // ==================== Internal Methods ====================
 
+    private boolean admit(final @NonNull Event event) {
+        RateLimiter limiter = rateLimits.get(event.getClass());
+        if (limiter == null) return true;
+
+        long delayNanos = limiter.acquire(System.nanoTime());
+        if (delayNanos == 0L) return true;
+
+        if (delayNanos > 0L) {
+            timingWheel().schedule(event, () -> fireAdmitted(event), delayNanos);
+            return false;
+        }
+
+        limiter.shed();
+        if (limiter.policy() == OverloadPolicy.CANCEL && event instanceof Cancelable cancelable)
+            cancelable.setCanceled(true);
+        return false;
+    }
+
+    private @NonNull PostBuffer newPostBuffer() {
+        PostBuffer buffer = new PostBuffer(Thread.currentThread());
+        postBuffers.add(buffer);
+        return buffer;
+    }
+
+    private void fireAdmitted(final @NonNull Event event) {
+        if (dispatchMode.isQueued()) fireQueued(event);
+        else fireNow(event);
+    }
+
+    private void fireNow(final @NonNull Event event) {
+        for (EventStage stage : stages) stage.accept(event);
+
+        dispatchLocal(event);
+
+        if (propagate) parent.fireNow(event);
+    }
+
+    private void fireQueued(final @NonNull Event event) {
+        Cascade cascade = root.cascades.get();
+
+        if (cascade.active) {
+            int depth = cascade.depth + 1;
+            if (depth > maxCascadeDepth) {
+                throw new EventProcessException("Max cascade depth of " + maxCascadeDepth
+                        + " exceeded by event: " + event.getClass().getName());
+            }
+            cascade.queue.add(new QueuedFire(this, event, depth));
+            return;
+        }
+
+        cascade.active = true;
+        long size = 0;
+        try {
+            fireNow(event);
+
+            QueuedFire next;
+            while ((next = cascade.queue.poll()) != null) {
+                cascade.depth = next.depth();
+                next.bus().fireNow(next.event());
+                size++;
+            }
+        } finally {
+            cascade.queue.clear();
+            cascade.active = false;
+            cascade.depth = 0;
+
+            if (size > 0) {
+                root.cascadeCount.increment();
+                root.cascadedEvents.add(size);
+                root.largestCascade.accumulateAndGet(size + 1, Math::max);
+            }
+        }
+    }
+
+    private @NonNull TimingWheel timingWheel() {
+        TimingWheel wheel = root.timingWheel;
+        if (wheel != null) return wheel;
+
+        synchronized (root) {
+            if (root.timingWheel == null) root.timingWheel = new TimingWheel();
+            return root.timingWheel;
+        }
+    }
+
+    private <R> void completeUnanswered(final @NonNull CompletableFuture<Optional<R>> result,
+                                        final RuntimeException failure,
+                                        final @NonNull QueryEvent<R> event,
+                                        final @NonNull Executor executor) {
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else if (propagate) {
+            parent.queryAsync(event, executor).whenComplete((value, error) -> {
+                if (error != null) result.completeExceptionally(error);
+                else result.complete(value);
+            });
+        } else {
+            result.complete(Optional.empty());
+        }
+    }
+
+    private void dispatchLocal(final @NonNull Event event) {
+        Class<? extends Event> eventType = event.getClass();
+
+        if (event instanceof Sticky) stickyEvents.put(eventType, event);
+
+        HandlerExecutor[] executors = executorCache.get(eventType);
+
+        if (executors == null) return;
+
+        executeHandlers(executors, event, eventType);
+    }
+
     private void executeHandlers(
             final @NonNull HandlerExecutor @NonNull [] executors,
             final @NonNull Event event,
             final @NonNull Class<? extends Event> eventType) {
 
         for (HandlerExecutor executor : executors) {
-            try {
-                if (executor.priority().isMonitor()) {
-                    executeMonitorHandler(executor, event, eventType);
-                } else executor.fire(event);
-            } catch (Exception e) {
-                throw new EventProcessException("Failed to execute handler \"" + executor.id()
-                                + "\" for event: " + eventType.getName(), e);
-            }
+            executeHandler(executor, event, eventType);
+        }
+    }
+
+    private void executeHandler(
+            final @NonNull HandlerExecutor executor,
+            final @NonNull Event event,
+            final @NonNull Class<? extends Event> eventType) {
+
+        try {
+            if (executor.priority().isMonitor()) {
+                executeMonitorHandler(executor, event, eventType);
+            } else executor.fire(event);
+        } catch (Exception e) {
+            throw new EventProcessException("Failed to execute handler \"" + executor.id()
+                            + "\" for event: " + eventType.getName(), e);
         }
     }
 
@@ -174,17 +810,102 @@ public final class HashEventExecutorBus implements EventExecutorBus {
             final @NonNull Event event,
             final @NonNull Class<? extends Event> eventType) {
 
-        if (!(event instanceof Monitorable<?> monitorable)) {
-            throw new NotMonitorableException("Event " + eventType.getName()
-                            + " is not Monitorable, but has MONITOR handlers");
+        switch (MONITOR_STRATEGIES.get(eventType)) {
+            case SHARED -> executor.fire(event);
+            case VIEW -> executor.fire(((Viewable<?>) event).view());
+            case COPY -> executor.fire(((Monitorable<?>) event).copy());
+            default -> throw new NotMonitorableException("Event " + eventType.getName()
+                    + " is not Monitorable, but has MONITOR handlers");
+        }
+    }
+
+    private void registerInternal(final @NonNull HandlerList list, final boolean weak) {
+        Class<? extends HandlerList> listClass = list.getClass();
+
+        if (isClassRegistered(listClass)) {
+            throw new HandlerRegistrationException(
+                    "HandlerList class already registered: " + listClass.getName());
         }
 
-        Event copy = monitorable.copy();
-        executor.fire(copy);
+        Map<Class<? extends Event>, List<HandlerExecutor>> newHandlers;
+
+        long stamp = lock.writeLock();
+        try {
+            expungeCollected(EXPUNGE_BATCH);
+
+            if (isClassRegistered(listClass)) {
+                throw new HandlerRegistrationException(
+                        "HandlerList class already registered: " + listClass.getName());
+            }
+            expungeCleared(listClass);
+
+            if (weak) {
+                HandlerReference reference = new HandlerReference(list, collectedHandlers);
+                newHandlers = registerHandlersInternal(listClass, (id, priority, method) ->
+                        new WeakHandlerExecutor(id, priority, reference, method));
+                weakHandlers.put(listClass, reference);
+            } else {
+                newHandlers = registerHandlersInternal(listClass, (id, priority, method) ->
+                        new ReflectiveHandlerExecutor(id, priority, list, method));
+                registeredHandlers.put(listClass, list);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        deliverStickyEvents(newHandlers);
+    }
+
+    private void deliverStickyEvents(final @NonNull Map<Class<? extends Event>,
+            @NonNull List<HandlerExecutor>> newHandlers) {
+        if (stickyEvents.isEmpty()) return;
+
+        for (Map.Entry<Class<? extends Event>, List<HandlerExecutor>> entry : newHandlers.entrySet()) {
+            Event sticky = stickyEvents.get(entry.getKey());
+            if (sticky == null) continue;
+
+            HandlerExecutor[] executors = entry.getValue().toArray(EMPTY_EXECUTORS);
+            Arrays.sort(executors, Comparator.comparingInt(e -> e.priority().ordinal()));
+            executeHandlers(executors, sticky, entry.getKey());
+        }
     }
 
-    private void registerHandlersInternal(final @NonNull HandlerList list) {
-        Class<?> listClass = list.getClass();
+    private boolean isClassRegistered(final @NonNull Class<? extends HandlerList> listClass) {
+        if (registeredHandlers.containsKey(listClass) || lazyHandlers.containsKey(listClass)) return true;
+
+        // a collected list counts as absent even before its reference is enqueued
+        HandlerReference reference = weakHandlers.get(listClass);
+        return reference != null && !reference.refersTo(null);
+    }
+
+    private void expungeCleared(final @NonNull Class<? extends HandlerList> listClass) {
+        HandlerReference cleared = weakHandlers.remove(listClass);
+        if (cleared == null) return;
+
+        removeExecutors(executor -> executor instanceof WeakHandlerExecutor whe
+                && whe.owner() == cleared);
+    }
+
+    private int expungeCollected(final int max) {
+        Set<HandlerReference> expired = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Reference<? extends HandlerList> polled;
+        while (expired.size() < max && (polled = collectedHandlers.poll()) != null) {
+            HandlerReference reference = (HandlerReference) polled;
+            weakHandlers.remove(reference.listClass(), reference);
+            expired.add(reference);
+        }
+
+        if (!expired.isEmpty()) {
+            removeExecutors(executor -> executor instanceof WeakHandlerExecutor whe
+                    && expired.contains(whe.owner()));
+        }
+        return expired.size();
+    }
+
+    private @NonNull Map<Class<? extends Event>, List<HandlerExecutor>> registerHandlersInternal(
+            final @NonNull Class<? extends HandlerList> listClass,
+            final @NonNull ExecutorFactory factory) {
         Method[] methods = listClass.getDeclaredMethods();
 
         if (methods.length == 0) {
@@ -198,14 +919,14 @@ public final class HashEventExecutorBus implements EventExecutorBus {
         for (Method method : methods) {
             if (!method.isAnnotationPresent(Handler.class)) continue;
 
-            validateHandlerMethod(list, method);
+            validateHandlerMethod(listClass, method);
 
             @SuppressWarnings("unchecked")
             Class<? extends Event> eventType = (Class<? extends Event>) method.getParameterTypes()[0];
             HandlerPriority priority = method.getAnnotation(Handler.class).priority();
             String handlerId = listClass.getName() + "#" + method.getName();
 
-            HandlerExecutor executor = new ReflectiveHandlerExecutor(handlerId, priority, list, method);
+            HandlerExecutor executor = factory.create(handlerId, priority, method);
 
             newHandlers.computeIfAbsent(eventType, k -> new ArrayList<>()).add(executor);
             validHandlerCount++;
@@ -216,26 +937,23 @@ public final class HashEventExecutorBus implements EventExecutorBus {
                     + listClass.getName());
 
         updateExecutorCache(newHandlers);
+        return newHandlers;
     }
 
-    private void unregisterHandlersInternal(final @NonNull HandlerList list) {
-        Map<Class<? extends Event>, HandlerExecutor[]> newCache = new HashMap<>();
-
+    private void removeExecutors(final @NonNull Predicate<HandlerExecutor> removed) {
         for (Map.Entry<Class<? extends Event>, HandlerExecutor[]> entry : executorCache.entrySet()) {
             HandlerExecutor[] currentExecutors = entry.getValue();
             List<HandlerExecutor> remaining = new ArrayList<>(currentExecutors.length);
 
             for (HandlerExecutor executor : currentExecutors) {
-                if (!(executor instanceof ReflectiveHandlerExecutor rhe) || rhe.owner() != list)
-                    remaining.add(executor);
+                if (!removed.test(executor)) remaining.add(executor);
             }
 
-            if (!remaining.isEmpty())
-                newCache.put(entry.getKey(), remaining.toArray(EMPTY_EXECUTORS));
-        }
+            if (remaining.size() == currentExecutors.length) continue;
 
-        executorCache.clear();
-        executorCache.putAll(newCache);
+            if (remaining.isEmpty()) executorCache.remove(entry.getKey());
+            else entry.setValue(remaining.toArray(EMPTY_EXECUTORS));
+        }
     }
 
     private void updateExecutorCache(final @NonNull Map<Class<? extends Event>,
@@ -259,28 +977,25 @@ public final class HashEventExecutorBus implements EventExecutorBus {
         }
     }
 
-    private void validateHandlerMethod(final @NonNull HandlerList list, 
+    private void validateHandlerMethod(final @NonNull Class<? extends HandlerList> listClass,
                                        final @NonNull Method method) {
-        String methodId = getString(list, method);
+        String methodId = getString(listClass, method);
 
         if (Modifier.isStatic(method.getModifiers())) {
             throw new HandlerRegistrationException(
                     "Handler method cannot be static: " + methodId);
         }
 
-        if (!method.canAccess(list)) {
-            try {
-                method.setAccessible(true);
-            } catch (SecurityException e) {
-                throw new HandlerRegistrationException(
-                        "Cannot access handler method: " + methodId, e);
-            }
+        try {
+            method.setAccessible(true);
+        } catch (InaccessibleObjectException | SecurityException e) {
+            throw new HandlerRegistrationException(
+                    "Cannot access handler method: " + methodId, e);
         }
     }
 
-    private static @NonNull String getString(final @NonNull HandlerList list,
+    private static @NonNull String getString(final @NonNull Class<? extends HandlerList> listClass,
                                              final @NonNull Method method) {
-        Class<?> listClass = list.getClass();
         String methodId = listClass.getName() + "#" + method.getName();
 
         if (method.getParameterCount() != 1)
@@ -299,4 +1014,29 @@ public final class HashEventExecutorBus implements EventExecutorBus {
         return methodId;
     }
 
+    @FunctionalInterface
+    private interface ExecutorFactory {
+        HandlerExecutor create(String id, HandlerPriority priority, Method method);
+    }
+
+    private enum MonitorStrategy {
+        SHARED, VIEW, COPY, UNSUPPORTED;
+
+        private static @NonNull MonitorStrategy of(final @NonNull Class<?> type) {
+            if (Immutable.class.isAssignableFrom(type)) return SHARED;
+            if (Viewable.class.isAssignableFrom(type)) return VIEW;
+            if (Monitorable.class.isAssignableFrom(type)) return COPY;
+            if (Immutable.isImmutable(type)) return SHARED;
+            return UNSUPPORTED;
+        }
+    }
+
+    private record QueuedFire(@NonNull HashEventExecutorBus bus, @NonNull Event event, int depth) { }
+
+    private static final class Cascade {
+        private final ArrayDeque<QueuedFire> queue = new ArrayDeque<>();
+        private boolean active;
+        private int depth;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+import de.leycm.flux.exception.HandlerRegistrationException;
+import de.leycm.flux.handler.HandlerList;
+import lombok.NonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Owner of a lazily registered {@link HandlerList} that creates the list on first use.
+ * All handlers of the list share one owner, so the supplier is called at most once
+ * successfully; a failed call is retried by the next event.
+ */
+final class LazyHandlerOwner {
+
+    private final Class<? extends HandlerList> listClass;
+
+    private final Supplier<? extends HandlerList> supplier;
+
+    private volatile HandlerList instance;
+
+    LazyHandlerOwner(final @NonNull Class<? extends HandlerList> listClass,
+                     final @NonNull Supplier<? extends HandlerList> supplier) {
+        this.listClass = listClass;
+        this.supplier = supplier;
+    }
+
+    @NonNull HandlerList get() {
+        HandlerList list = instance;
+        if (list != null) return list;
+
+        synchronized (this) {
+            if (instance == null) {
+                HandlerList created = supplier.get();
+                if (!listClass.isInstance(created)) {
+                    throw new HandlerRegistrationException("Supplier of " + listClass.getName()
+                            + " returned " + (created == null ? "null" : created.getClass().getName()));
+                }
+                instance = created;
+            }
+            return instance;
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+import de.leycm.flux.event.Event;
+import lombok.NonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-producer, single-consumer buffer of posted events owned by one thread.
+ *
+ * <p>The owning thread appends events to a linked list of fixed-size chunks and publishes
+ * each slot with a release store, so posting never contends with other threads. The
+ * flushing thread drains the published slots and clears them for garbage collection.</p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+final class PostBuffer {
+
+    private static final int CHUNK_SIZE = 256;
+
+    private final Thread owner;
+
+    private Chunk tail;
+
+    private Chunk head;
+
+    private int readIndex;
+
+    PostBuffer(final @NonNull Thread owner) {
+        this.owner = owner;
+        this.tail = new Chunk();
+        this.head = tail;
+    }
+
+    /**
+     * Appends an event, may only be called by the owning thread.
+     *
+     * @param event the event to append
+     */
+    void add(final @NonNull Event event) {
+        Chunk chunk = tail;
+        int index = chunk.size;
+
+        if (index == CHUNK_SIZE) {
+            Chunk next = new Chunk();
+            next.events[0] = event;
+            Chunk.SIZE.setRelease(next, 1);
+            chunk.next = next;
+            tail = next;
+            return;
+        }
+
+        chunk.events[index] = event;
+        Chunk.SIZE.setRelease(chunk, index + 1);
+    }
+
+    /**
+     * Moves all published events into the given groups, keyed by event type.
+     *
+     * @param groups the groups to append to
+     * @return the number of drained events
+     */
+    int drainTo(final @NonNull Map<Class<? extends Event>, List<Event>> groups) {
+        int drained = 0;
+        Class<? extends Event> lastType = null;
+        List<Event> lastGroup = null;
+
+        while (true) {
+            Chunk chunk = head;
+            int size = (int) Chunk.SIZE.getAcquire(chunk);
+
+            for (; readIndex < size; readIndex++, drained++) {
+                Event event = chunk.events[readIndex];
+                chunk.events[readIndex] = null;
+
+                if (event.getClass() != lastType) {
+                    lastType = event.getClass();
+                    lastGroup = groups.computeIfAbsent(lastType, key -> new ArrayList<>());
+                }
+                lastGroup.add(event);
+            }
+
+            if (readIndex < CHUNK_SIZE) return drained;
+
+            Chunk next = chunk.next;
+            if (next == null) return drained;
+
+            head = next;
+            readIndex = 0;
+        }
+    }
+
+    boolean isOwnerAlive() {
+        return owner.isAlive();
+    }
+
+    private static final class Chunk {
+        private static final VarHandle SIZE;
+
+        static {
+            try {
+                SIZE = MethodHandles.lookup().findVarHandle(Chunk.class, "size", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Event[] events = new Event[CHUNK_SIZE];
+        private volatile Chunk next;
+        private int size;
+    }
+
+}
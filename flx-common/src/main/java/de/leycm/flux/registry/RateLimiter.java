@@ -0,0 +1,79 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+import lombok.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token bucket of a single event type, implemented as a generic cell rate algorithm.
+ *
+ * <p>The bucket state is one theoretical arrival time that is advanced by a single CAS per
+ * admitted event. An event is admitted while the arrival time stays within one burst window
+ * of the current time; with {@link OverloadPolicy#DEFER} a second window is reserved for
+ * deferred events.</p>
+ *
+ * @author LeyCM
+ * @since 1.0.6
+ */
+final class RateLimiter {
+
+    static final long REJECTED = -1L;
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final long horizonNanos;
+    private final OverloadPolicy policy;
+    private final AtomicLong theoreticalArrival;
+    private final LongAdder shed;
+
+    RateLimiter(final int permitsPerSecond, final int burst, final @NonNull OverloadPolicy policy) {
+        this.intervalNanos = Math.max(1L, 1_000_000_000L / permitsPerSecond);
+        this.toleranceNanos = intervalNanos * burst;
+        this.horizonNanos = policy == OverloadPolicy.DEFER ? 2 * toleranceNanos : toleranceNanos;
+        this.policy = policy;
+        this.theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+        this.shed = new LongAdder();
+    }
+
+    /**
+     * Tries to take a token at the given time.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return {@code 0} if admitted now, the delay in nanoseconds until a reserved token
+     *         becomes available, or {@link #REJECTED}
+     */
+    long acquire(final long now) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, now) + intervalNanos;
+
+            if (next - now > horizonNanos) return REJECTED;
+            if (theoreticalArrival.compareAndSet(arrival, next))
+                return Math.max(0L, next - now - toleranceNanos);
+        }
+    }
+
+    void shed() {
+        shed.increment();
+    }
+
+    long shedCount() {
+        return shed.sum();
+    }
+
+    @NonNull OverloadPolicy policy() {
+        return policy;
+    }
+
+}
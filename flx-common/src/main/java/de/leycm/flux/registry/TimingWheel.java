@@ -0,0 +1,346 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+import de.leycm.flux.event.Event;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical timing wheel driving delayed event firing.
+ *
+ * <p>Timeouts live in intrusive doubly-linked buckets of {@value #LEVELS} wheels with
+ * {@value #SLOTS} slots each, the slot width of every level is {@value #SLOTS} times the one
+ * below. Insert and cancel are O(1); a timeout is moved down a level whenever the wheel above
+ * turns over. Deadlines beyond the top level are parked in its farthest slot and re-placed
+ * when that slot is cascaded.</p>
+ *
+ * <p>Only the ticker thread touches the buckets. Other threads hand over new and cancelled
+ * timeouts through lock-free queues. All timeouts expiring within one tick are run as a
+ * batch on the ticker thread. A wheel created without a ticker thread is driven by calling
+ * {@link #tick()} from a single thread instead.</p>
+ *
+ * <p>{@link #close()} stops the ticker thread and cancels all pending timeouts. Timeouts
+ * scheduled on a closed wheel are returned cancelled.</p>
+ */
+final class TimingWheel {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long RANGE = 1L << (BITS * LEVELS);
+
+    private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long tickNanos;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final Bucket[][] wheels;
+    private final Queue<Timeout> scheduled;
+    private final Queue<Timeout> cancelled;
+    private final List<Timeout> expired;
+
+    private final Thread ticker;
+    private volatile boolean closed;
+    private long currentTick;
+    private int size;
+
+    TimingWheel() {
+        this(DEFAULT_TICK_NANOS);
+    }
+
+    TimingWheel(final long tickNanos) {
+        this(tickNanos, System::nanoTime, true);
+    }
+
+    TimingWheel(final long tickNanos, final @NonNull LongSupplier clock, final boolean ticking) {
+        this.tickNanos = tickNanos;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+        this.wheels = new Bucket[LEVELS][SLOTS];
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < SLOTS; i++) wheel[i] = new Bucket();
+        }
+        this.scheduled = new ConcurrentLinkedQueue<>();
+        this.cancelled = new ConcurrentLinkedQueue<>();
+        this.expired = new ArrayList<>();
+
+        if (ticking) {
+            this.ticker = new Thread(this::run, "flux-timing-wheel");
+            this.ticker.setDaemon(true);
+            this.ticker.start();
+        } else {
+            this.ticker = null;
+        }
+    }
+
+    @NonNull Timeout schedule(final @NonNull Event event,
+                              final @NonNull Runnable action,
+                              final long delayNanos) {
+        long deadline = Math.max(0, clock.getAsLong() - startNanos + delayNanos);
+        Timeout timeout = new Timeout(this, event, action, (deadline + tickNanos - 1) / tickNanos);
+
+        scheduled.offer(timeout);
+        if (closed) timeout.cancel();
+        else LockSupport.unpark(ticker);
+        return timeout;
+    }
+
+    void close() {
+        closed = true;
+        if (ticker == null) {
+            cancelPending();
+            return;
+        }
+
+        LockSupport.unpark(ticker);
+        if (Thread.currentThread() == ticker) return;
+
+        try {
+            ticker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void tick() {
+        transferCancelled();
+
+        // an idle wheel stops ticking, catch up before placing anything relative to currentTick
+        long target = (clock.getAsLong() - startNanos) / tickNanos;
+        if (size == 0) currentTick = Math.max(currentTick, target);
+
+        transferScheduled();
+        while (currentTick < target) advance();
+
+        runExpired();
+    }
+
+    // ==================== Internal Methods ====================
+
+    private void run() {
+        while (!closed) {
+            tick();
+
+            if (size == 0 && scheduled.isEmpty()) {
+                LockSupport.park(this);
+            } else {
+                long next = startNanos + (currentTick + 1) * tickNanos;
+                LockSupport.parkNanos(this, next - clock.getAsLong());
+            }
+        }
+
+        cancelPending();
+    }
+
+    private void advance() {
+        long tick = ++currentTick;
+
+        int level = 1;
+        while (level < LEVELS && (tick & ((1L << (BITS * level)) - 1)) == 0) level++;
+        for (int i = level - 1; i >= 1; i--) {
+            Bucket bucket = wheels[i][(int) (tick >>> (BITS * i)) & MASK];
+            for (Timeout timeout = bucket.clear(); timeout != null; ) {
+                Timeout next = timeout.next;
+                timeout.next = null;
+                size--;
+                place(timeout);
+                timeout = next;
+            }
+        }
+
+        Bucket bucket = wheels[0][(int) tick & MASK];
+        for (Timeout timeout = bucket.clear(); timeout != null; ) {
+            Timeout next = timeout.next;
+            timeout.next = null;
+            size--;
+            if (timeout.deadlineTick <= tick) expired.add(timeout);
+            else place(timeout);
+            timeout = next;
+        }
+    }
+
+    private void place(final @NonNull Timeout timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        if (delta <= 0) {
+            expired.add(timeout);
+            return;
+        }
+
+        long slotTick = delta >= RANGE ? currentTick + RANGE - 1 : timeout.deadlineTick;
+        long span = Math.min(delta, RANGE - 1);
+
+        int level = 0;
+        while (level < LEVELS - 1 && span >= 1L << (BITS * (level + 1))) level++;
+
+        wheels[level][(int) (slotTick >>> (BITS * level)) & MASK].add(timeout);
+        size++;
+    }
+
+    private void transferScheduled() {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (!timeout.isDone()) place(timeout);
+        }
+    }
+
+    private void transferCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                size--;
+            }
+        }
+    }
+
+    private void cancelPending() {
+        for (Bucket[] wheel : wheels) {
+            for (Bucket bucket : wheel) {
+                for (Timeout timeout = bucket.clear(); timeout != null; ) {
+                    Timeout next = timeout.next;
+                    timeout.next = null;
+                    Timeout.STATE.compareAndSet(timeout, Timeout.PENDING, Timeout.CANCELLED);
+                    timeout = next;
+                }
+            }
+        }
+
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null)
+            Timeout.STATE.compareAndSet(timeout, Timeout.PENDING, Timeout.CANCELLED);
+
+        for (Timeout pending : expired)
+            Timeout.STATE.compareAndSet(pending, Timeout.PENDING, Timeout.CANCELLED);
+
+        cancelled.clear();
+        expired.clear();
+        size = 0;
+    }
+
+    private void runExpired() {
+        if (expired.isEmpty()) return;
+
+        for (Timeout timeout : expired) {
+            if (!Timeout.STATE.compareAndSet(timeout, Timeout.PENDING, Timeout.EXPIRED)) continue;
+
+            try {
+                timeout.action.run();
+            } catch (Throwable e) {
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, e);
+            }
+        }
+        expired.clear();
+    }
+
+    static final class Timeout implements ScheduledEvent {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimingWheel wheel;
+        private final Event event;
+        private final Runnable action;
+        private final long deadlineTick;
+
+        private volatile int state;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(final @NonNull TimingWheel wheel,
+                        final @NonNull Event event,
+                        final @NonNull Runnable action,
+                        final long deadlineTick) {
+            this.wheel = wheel;
+            this.event = event;
+            this.action = action;
+            this.deadlineTick = deadlineTick;
+        }
+
+        @Override
+        public @NonNull Event event() {
+            return event;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) return false;
+
+            wheel.cancelled.offer(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state != PENDING;
+        }
+
+    }
+
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(final @NonNull Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) head = timeout;
+            else tail.next = timeout;
+            tail = timeout;
+        }
+
+        void remove(final @NonNull Timeout timeout) {
+            if (timeout.prev == null) head = timeout.next;
+            else timeout.prev.next = timeout.next;
+            if (timeout.next == null) tail = timeout.prev;
+            else timeout.next.prev = timeout.prev;
+
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout clear() {
+            Timeout first = head;
+            for (Timeout timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+                timeout.prev = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+import de.leycm.flux.event.Event;
+import de.leycm.flux.handler.HandlerList;
+import de.leycm.flux.handler.HandlerPriority;
+import lombok.NonNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+/**
+ * Reflective executor that references its {@link HandlerList} weakly.
+ * Events are silently skipped once the owner has been garbage collected.
+ */
+record WeakHandlerExecutor(@NonNull String id,
+                           @NonNull HandlerPriority priority,
+                           @NonNull HandlerReference owner,
+                           @NonNull Method method)
+        implements HandlerExecutor {
+
+    @Override
+    public void fire(final @NonNull Event event) {
+        HandlerList target = owner.get();
+        if (target == null) return;
+
+        try {
+            method.invoke(target, event);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException("Failed to execute handler " + id, e);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) return false;
+        if (this == obj) return true;
+        if (!(obj instanceof WeakHandlerExecutor other)) return false;
+        return id.equals(other.id) && owner == other.owner;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, System.identityHashCode(owner));
+    }
+
+}
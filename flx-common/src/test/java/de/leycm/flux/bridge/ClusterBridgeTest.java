@@ -0,0 +1,309 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.bridge;
+
+import de.leycm.flux.codec.BinaryEventCodec;
+import de.leycm.flux.event.Event;
+import de.leycm.flux.handler.Handler;
+import de.leycm.flux.handler.HandlerList;
+import de.leycm.flux.registry.HashEventExecutorBus;
+import lombok.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterBridgeTest {
+
+    private static final Duration LONG_LINGER = Duration.ofSeconds(30);
+
+    // mirrors the batch layout of ClusterBridge
+    private static final int NODE_OFFSET = 4;
+    private static final int COUNT_OFFSET = 16;
+    private static final int FLAGS_OFFSET = 20;
+    private static final int BODY_LENGTH_OFFSET = 21;
+    private static final int BATCH_HEADER = 25;
+    private static final int RECORD_HEADER = Integer.BYTES;
+
+    private HashEventExecutorBus local;
+    private HashEventExecutorBus remote;
+    private Recorder recorder;
+    private RecordingTransport outbound;
+    private LoopbackTransport inbound;
+    private Thread.UncaughtExceptionHandler handler;
+    private final List<Throwable> reported = new CopyOnWriteArrayList<>();
+    private final List<AutoCloseable> closeables = new ArrayList<>();
+
+    record Note(Instant timestamp, String text) implements Event { }
+
+    public static class Recorder implements HandlerList {
+
+        private final List<Note> notes = new CopyOnWriteArrayList<>();
+
+        @Handler
+        public void onNote(final Note note) {
+            notes.add(note);
+        }
+
+    }
+
+    /**
+     * Loopback transport keeping a copy of every batch it sends.
+     */
+    static final class RecordingTransport implements ClusterTransport {
+
+        private final LoopbackTransport loopback = new LoopbackTransport();
+        private final List<byte[]> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void start(final @NonNull Consumer<ByteBuffer> receiver) {
+            loopback.start(receiver);
+        }
+
+        @Override
+        public void send(final @NonNull ByteBuffer batch) {
+            byte[] copy = new byte[batch.remaining()];
+            batch.duplicate().get(copy);
+            batches.add(copy);
+            loopback.send(batch);
+        }
+
+        @Override
+        public void close() {
+            loopback.close();
+        }
+
+    }
+
+    @BeforeEach
+    void setUp() {
+        local = new HashEventExecutorBus();
+        remote = new HashEventExecutorBus();
+        recorder = new Recorder();
+        remote.register(recorder);
+
+        outbound = new RecordingTransport();
+        inbound = new LoopbackTransport();
+        outbound.loopback.connect(inbound);
+
+        handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> reported.add(e));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Thread.currentThread().setUncaughtExceptionHandler(handler);
+        for (AutoCloseable closeable : closeables) closeable.close();
+        local.close();
+        remote.close();
+    }
+
+    @Test
+    void sendsBatchOnceBatchSizeIsReached() throws IOException {
+        ClusterBridge sender = open(local, outbound, 4, LONG_LINGER, false);
+        ClusterBridge receiver = open(remote, inbound, 4, LONG_LINGER, false);
+
+        for (int i = 0; i < 3; i++) local.fire(note("note-" + i));
+        sleep(200);
+        assertTrue(outbound.batches.isEmpty());
+        assertEquals(3, sender.getInFlightCount());
+
+        local.fire(note("note-3"));
+
+        await(() -> receiver.getReceivedCount() == 4);
+        assertEquals(1, outbound.batches.size());
+        assertEquals(4, count(outbound.batches.get(0)));
+        assertEquals(4, sender.getSentCount());
+        assertEquals(0, sender.getInFlightCount());
+        assertEquals(List.of(note("note-0"), note("note-1"), note("note-2"), note("note-3")), recorder.notes);
+    }
+
+    @Test
+    void sendsPartialBatchAfterLinger() throws IOException {
+        ClusterBridge sender = open(local, outbound, 100, Duration.ofMillis(50), false);
+        ClusterBridge receiver = open(remote, inbound, 100, LONG_LINGER, false);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) local.fire(note("note-" + i));
+
+        await(() -> receiver.getReceivedCount() == 3);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(3, outbound.batches.stream().mapToInt(ClusterBridgeTest::count).sum());
+        assertEquals(3, sender.getSentCount());
+    }
+
+    @Test
+    void roundTripsCompressedAndUncompressedBatches() throws IOException {
+        ClusterBridge plain = open(local, outbound, 4, LONG_LINGER, false);
+        ClusterBridge receiver = open(remote, inbound, 4, LONG_LINGER, false);
+
+        for (int i = 0; i < 4; i++) local.fire(note("plain ".repeat(20) + i));
+        await(() -> receiver.getReceivedCount() == 4);
+        plain.close();
+
+        HashEventExecutorBus deflating = new HashEventExecutorBus();
+        RecordingTransport transport = new RecordingTransport();
+        transport.loopback.connect(inbound);
+        ClusterBridge compressed = open(deflating, transport, 4, LONG_LINGER, true);
+
+        for (int i = 0; i < 4; i++) deflating.fire(note("deflated ".repeat(20) + i));
+        await(() -> receiver.getReceivedCount() == 8);
+        compressed.close();
+        deflating.close();
+
+        byte[] plainBatch = outbound.batches.get(0);
+        byte[] compressedBatch = transport.batches.get(0);
+        assertEquals(0, plainBatch[FLAGS_OFFSET]);
+        assertEquals(1, compressedBatch[FLAGS_OFFSET]);
+        assertEquals(plainBatch.length - BATCH_HEADER, ByteBuffer.wrap(plainBatch).getInt(BODY_LENGTH_OFFSET));
+        assertTrue(compressedBatch.length - BATCH_HEADER < ByteBuffer.wrap(compressedBatch).getInt(BODY_LENGTH_OFFSET));
+
+        assertEquals(8, recorder.notes.size());
+        assertEquals(note("plain ".repeat(20) + 3), recorder.notes.get(3));
+        assertEquals(note("deflated ".repeat(20) + 3), recorder.notes.get(7));
+        assertEquals(0, receiver.getDroppedCount());
+    }
+
+    @Test
+    void countsResentBatchAsDuplicate() throws IOException {
+        open(local, outbound, 2, LONG_LINGER, false);
+        ClusterBridge receiver = open(remote, inbound, 2, LONG_LINGER, false);
+
+        local.fire(note("first"));
+        local.fire(note("second"));
+        await(() -> receiver.getReceivedCount() == 2);
+
+        outbound.loopback.send(ByteBuffer.wrap(outbound.batches.get(0)));
+
+        assertEquals(2, receiver.getDuplicateCount());
+        assertEquals(2, receiver.getReceivedCount());
+        assertEquals(List.of(note("first"), note("second")), recorder.notes);
+    }
+
+    @Test
+    void dropsBatchesWithMalformedHeader() throws IOException {
+        byte[] batch = capture();
+        ClusterBridge receiver = open(remote, inbound, 2, LONG_LINGER, false);
+
+        ByteBuffer negativeCount = copy(batch, 1);
+        negativeCount.putInt(COUNT_OFFSET, -1);
+        outbound.loopback.send(negativeCount);
+
+        ByteBuffer oversizedBody = copy(batch, 2);
+        oversizedBody.putInt(BODY_LENGTH_OFFSET, Integer.MAX_VALUE);
+        outbound.loopback.send(oversizedBody);
+
+        ByteBuffer notDeflated = copy(batch, 3);
+        notDeflated.put(FLAGS_OFFSET, (byte) 1);
+        outbound.loopback.send(notDeflated);
+
+        assertEquals(4, receiver.getDroppedCount());
+        assertEquals(3, reported.size());
+        assertEquals(0, receiver.getReceivedCount());
+        assertTrue(recorder.notes.isEmpty());
+    }
+
+    @Test
+    void dropsMalformedRecords() throws IOException {
+        byte[] batch = capture();
+        ClusterBridge receiver = open(remote, inbound, 2, LONG_LINGER, false);
+
+        ByteBuffer oversizedRecord = copy(batch, 1);
+        oversizedRecord.putInt(BATCH_HEADER, Integer.MAX_VALUE);
+        outbound.loopback.send(oversizedRecord);
+
+        assertEquals(2, receiver.getDroppedCount());
+        assertTrue(recorder.notes.isEmpty());
+
+        ByteBuffer undecodable = copy(batch, 2);
+        undecodable.putInt(BATCH_HEADER + RECORD_HEADER, 0xDEADBEEF);
+        outbound.loopback.send(undecodable);
+
+        assertEquals(3, receiver.getDroppedCount());
+        assertEquals(2, reported.size());
+        assertEquals(1, receiver.getReceivedCount());
+        assertEquals(List.of(note("second")), recorder.notes);
+    }
+
+    // ==================== Internal Methods ====================
+
+    private ClusterBridge open(final HashEventExecutorBus bus,
+                               final ClusterTransport transport,
+                               final int batchSize,
+                               final Duration linger,
+                               final boolean compress) throws IOException {
+        BinaryEventCodec codec = new BinaryEventCodec();
+        codec.register(Note.class);
+
+        ClusterBridge bridge = new ClusterBridge(bus, codec, transport, Set.of(Note.class),
+                batchSize, linger, compress, 1024);
+        closeables.add(bridge);
+        return bridge;
+    }
+
+    /**
+     * Sends a well-formed uncompressed batch of two notes and returns its bytes.
+     */
+    private byte[] capture() throws IOException {
+        HashEventExecutorBus bus = new HashEventExecutorBus();
+        RecordingTransport transport = new RecordingTransport();
+        ClusterBridge bridge = open(bus, transport, 2, LONG_LINGER, false);
+
+        bus.fire(note("first"));
+        bus.fire(note("second"));
+        await(() -> transport.batches.size() == 1);
+        bridge.close();
+        bus.close();
+        return transport.batches.get(0);
+    }
+
+    private static ByteBuffer copy(final byte[] batch, final int node) {
+        return ByteBuffer.wrap(batch.clone()).putInt(NODE_OFFSET, node);
+    }
+
+    private static int count(final byte[] batch) {
+        return ByteBuffer.wrap(batch).getInt(COUNT_OFFSET);
+    }
+
+    private static void await(final BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("condition not met within 10 seconds");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Note note(final String text) {
+        return new Note(Instant.EPOCH, text);
+    }
+
+}
@@ -0,0 +1,190 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.bridge;
+
+import de.leycm.flux.codec.BinaryEventCodec;
+import de.leycm.flux.event.Event;
+import de.leycm.flux.handler.Handler;
+import de.leycm.flux.handler.HandlerList;
+import de.leycm.flux.registry.HashEventExecutorBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedMemoryBridgeTest {
+
+    private static final int SLOT_SIZE = 128;
+    private static final int SLOT_COUNT = 4;
+
+    // mirrors the ring layout of SharedMemoryBridge
+    private static final int CURSOR_OFFSET = 64;
+    private static final int SLOTS_OFFSET = 128;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(
+            long[].class, ByteOrder.nativeOrder());
+
+    @TempDir
+    Path directory;
+
+    private Path ring;
+    private HashEventExecutorBus local;
+    private HashEventExecutorBus remote;
+    private Recorder remoteRecorder;
+    private final List<AutoCloseable> closeables = new ArrayList<>();
+
+    record Note(Instant timestamp, String text) implements Event { }
+
+    public static class Recorder implements HandlerList {
+
+        private final List<Note> notes = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate;
+
+        @Handler
+        public void onNote(final Note note) throws InterruptedException {
+            notes.add(note);
+            CountDownLatch latch = gate;
+            if (latch != null) latch.await();
+        }
+
+    }
+
+    @BeforeEach
+    void setUp() {
+        ring = directory.resolve("ring.flx");
+        local = new HashEventExecutorBus();
+        remote = new HashEventExecutorBus();
+        remoteRecorder = new Recorder();
+        remote.register(remoteRecorder);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AutoCloseable closeable : closeables) closeable.close();
+        local.close();
+        remote.close();
+    }
+
+    @Test
+    void exchangesEventsBetweenBridges() throws IOException {
+        Recorder localRecorder = new Recorder();
+        local.register(localRecorder);
+        SharedMemoryBridge sender = open(local);
+        SharedMemoryBridge receiver = open(remote);
+
+        for (int i = 0; i < 3; i++) local.fire(note("note-" + i));
+
+        await(() -> receiver.getReceivedCount() == 3);
+        assertEquals(List.of(note("note-0"), note("note-1"), note("note-2")), remoteRecorder.notes);
+        assertEquals(3, sender.getPublishedCount());
+        assertEquals(0, sender.getReceivedCount());
+        assertEquals(3, localRecorder.notes.size());
+    }
+
+    @Test
+    void skipsAheadWhenLapped() throws IOException {
+        SharedMemoryBridge sender = open(local);
+        SharedMemoryBridge receiver = open(remote);
+        CountDownLatch gate = new CountDownLatch(1);
+        remoteRecorder.gate = gate;
+
+        local.fire(note("note-0"));
+        await(() -> remoteRecorder.notes.size() == 1);
+
+        // the reader is blocked inside the first dispatch while the ring wraps several times
+        int total = 5 * SLOT_COUNT;
+        for (int i = 1; i < total; i++) local.fire(note("note-" + i));
+        assertEquals(total, sender.getPublishedCount());
+        gate.countDown();
+
+        await(() -> receiver.getReceivedCount() + receiver.getDroppedCount() == total);
+        assertTrue(receiver.getDroppedCount() >= total - SLOT_COUNT - 1);
+        assertEquals(note("note-" + (total - 1)), remoteRecorder.notes.get(remoteRecorder.notes.size() - 1));
+        assertEquals(receiver.getReceivedCount(), remoteRecorder.notes.size());
+    }
+
+    @Test
+    void skipsSlotStalledByDeadProducer() throws IOException {
+        open(local);
+        SharedMemoryBridge receiver = open(remote);
+
+        // claim a slot the way a producer does and never publish it
+        try (FileChannel channel = FileChannel.open(ring, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            buffer.order(ByteOrder.nativeOrder());
+            long claim = (long) LONG.getAndAdd(buffer, CURSOR_OFFSET, 1L);
+            LONG.setVolatile(buffer, SLOTS_OFFSET + (int) (claim % SLOT_COUNT) * SLOT_SIZE, -(claim + 1));
+        }
+
+        local.fire(note("after-stall"));
+
+        await(() -> receiver.getReceivedCount() == 1);
+        assertEquals(1, receiver.getDroppedCount());
+        assertEquals(List.of(note("after-stall")), remoteRecorder.notes);
+    }
+
+    @Test
+    void countsOversizedEventsAsDropped() throws IOException {
+        SharedMemoryBridge sender = open(local);
+        SharedMemoryBridge receiver = open(remote);
+
+        local.fire(note("x".repeat(SLOT_SIZE)));
+        local.fire(note("small"));
+
+        await(() -> receiver.getReceivedCount() == 1);
+        assertEquals(1, sender.getDroppedCount());
+        assertEquals(List.of(note("small")), remoteRecorder.notes);
+    }
+
+    // ==================== Internal Methods ====================
+
+    private SharedMemoryBridge open(final HashEventExecutorBus bus) throws IOException {
+        BinaryEventCodec codec = new BinaryEventCodec();
+        codec.register(Note.class);
+
+        SharedMemoryBridge bridge = new SharedMemoryBridge(bus, codec, ring,
+                Set.of(Note.class), SLOT_SIZE, SLOT_COUNT);
+        closeables.add(bridge);
+        return bridge;
+    }
+
+    private static void await(final BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("condition not met within 10 seconds");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Note note(final String text) {
+        return new Note(Instant.EPOCH, text);
+    }
+
+}
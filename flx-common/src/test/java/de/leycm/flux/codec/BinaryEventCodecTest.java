@@ -0,0 +1,309 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.codec;
+
+import de.leycm.flux.event.Event;
+import de.leycm.flux.exception.EventProcessException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryEventCodecTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T12:30:45.123456789Z");
+
+    enum Color { RED, GREEN, BLUE }
+
+    record Point(int x, int y, String label) { }
+
+    record Primitives(Instant timestamp, int i, long l, boolean z, byte b, short s,
+                      char c, float f, double d) implements Event { }
+
+    record Boxes(Instant timestamp, Integer i, Long l, Boolean z, Byte b, Short s,
+                 Character c, Float f, Double d) implements Event { }
+
+    record References(Instant timestamp, String text, byte[] bytes, Duration duration,
+                      UUID uuid, Color color, Point point) implements Event { }
+
+    record Outer(Instant timestamp, Point first, Point second) implements Event { }
+
+    record SchemaV1(Instant timestamp, int id) implements Event { }
+
+    record SchemaV2(Instant timestamp, int id, String name, long count) implements Event { }
+
+    @Test
+    void roundTripsPrimitives() {
+        Primitives event = new Primitives(NOW, Integer.MIN_VALUE, Long.MAX_VALUE, true, (byte) -7,
+                Short.MIN_VALUE, 'ß', Float.NaN, -0.0D);
+
+        assertEquals(event, roundTrip(event, ByteBuffer.allocate(256)));
+        assertEquals(event, roundTrip(event, ByteBuffer.allocateDirect(256)));
+    }
+
+    @Test
+    void roundTripsBoxes() {
+        Boxes event = new Boxes(NOW, 42, -1L, false, (byte) 1, (short) 2, '€', 1.5F, Math.PI);
+        Boxes nulls = new Boxes(null, null, null, null, null, null, null, null, null);
+
+        assertEquals(event, roundTrip(event, ByteBuffer.allocate(256)));
+        assertEquals(nulls, roundTrip(nulls, ByteBuffer.allocate(256)));
+    }
+
+    @Test
+    void roundTripsReferences() {
+        References event = new References(NOW, "plain", new byte[]{0, 1, -1, 127}, Duration.ofMillis(-1500),
+                UUID.randomUUID(), Color.BLUE, new Point(3, -4, "p"));
+
+        for (ByteBuffer buffer : buffers()) {
+            References decoded = roundTrip(event, buffer);
+
+            assertEquals(event.timestamp(), decoded.timestamp());
+            assertEquals(event.text(), decoded.text());
+            assertArrayEquals(event.bytes(), decoded.bytes());
+            assertEquals(event.duration(), decoded.duration());
+            assertEquals(event.uuid(), decoded.uuid());
+            assertEquals(event.color(), decoded.color());
+            assertEquals(event.point(), decoded.point());
+        }
+    }
+
+    @Test
+    void roundTripsNullReferences() {
+        References event = new References(null, null, null, null, null, null, null);
+
+        for (ByteBuffer buffer : buffers()) {
+            References decoded = roundTrip(event, buffer);
+
+            assertNull(decoded.timestamp());
+            assertNull(decoded.text());
+            assertNull(decoded.bytes());
+            assertNull(decoded.duration());
+            assertNull(decoded.uuid());
+            assertNull(decoded.color());
+            assertNull(decoded.point());
+        }
+    }
+
+    @Test
+    void roundTripsNonAsciiStrings() {
+        String text = "Grüße ñ ∑ 日本語 😀 end";
+        References event = new References(NOW, text, new byte[0], Duration.ZERO, new UUID(0, 0),
+                Color.RED, new Point(0, 0, "€"));
+
+        for (ByteBuffer buffer : buffers()) {
+            References decoded = roundTrip(event, buffer);
+
+            assertEquals(text, decoded.text());
+            assertEquals("€", decoded.point().label());
+            assertArrayEquals(new byte[0], decoded.bytes());
+        }
+    }
+
+    @Test
+    void roundTripsNestedRecords() {
+        Outer event = new Outer(NOW, new Point(1, 2, "a"), new Point(3, 4, null));
+        Outer partial = new Outer(NOW, null, new Point(5, 6, "b"));
+
+        assertEquals(event, roundTrip(event, ByteBuffer.allocate(256)));
+        assertEquals(partial, roundTrip(partial, ByteBuffer.allocate(256)));
+    }
+
+    @Test
+    void roundTripsInBothByteOrders() {
+        Primitives event = new Primitives(NOW, 1, 2, false, (byte) 3, (short) 4, 'x', 5F, 6D);
+
+        assertEquals(event, roundTrip(event, ByteBuffer.allocate(128).order(ByteOrder.LITTLE_ENDIAN)));
+        assertEquals(event, roundTrip(event, ByteBuffer.allocate(128).order(ByteOrder.BIG_ENDIAN)));
+    }
+
+    @Test
+    void decodesConsecutiveEvents() {
+        BinaryEventCodec codec = new BinaryEventCodec();
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        Outer first = new Outer(NOW, new Point(1, 1, "x"), null);
+        Primitives second = new Primitives(NOW, 7, 8, true, (byte) 9, (short) 10, 'y', 11F, 12D);
+
+        codec.encode(first, buffer);
+        codec.encode(second, buffer);
+        buffer.flip();
+
+        assertEquals(first, codec.decode(buffer));
+        assertEquals(second, codec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void decodesAppendedTrailingComponentsAsDefaults() {
+        BinaryEventCodec codec = new BinaryEventCodec();
+        codec.register(SchemaV2.class);
+
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        codec.encode(new SchemaV1(NOW, 17), buffer);
+        buffer.flip();
+        buffer.putInt(0, typeId(SchemaV2.class));
+
+        assertEquals(new SchemaV2(NOW, 17, null, 0L), codec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void skipsRemovedTrailingComponents() {
+        BinaryEventCodec codec = new BinaryEventCodec();
+        codec.register(SchemaV1.class);
+
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        codec.encode(new SchemaV2(NOW, 17, "dropped", 99L), buffer);
+        int second = buffer.position();
+        codec.encode(new SchemaV1(NOW, 18), buffer);
+        buffer.flip();
+        buffer.putInt(0, typeId(SchemaV1.class));
+
+        assertEquals(new SchemaV1(NOW, 17), codec.decode(buffer));
+        assertEquals(second, buffer.position());
+        assertEquals(new SchemaV1(NOW, 18), codec.decode(buffer));
+    }
+
+    @Test
+    void rejectsUnknownTypes() {
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        new BinaryEventCodec().encode(new SchemaV1(NOW, 1), buffer);
+        buffer.flip();
+
+        assertThrows(EventProcessException.class, () -> new BinaryEventCodec().decode(buffer));
+    }
+
+    @Test
+    void rejectsNonRecordEvents() {
+        Event event = () -> NOW;
+
+        assertThrows(EventProcessException.class,
+                () -> new BinaryEventCodec().encode(event, ByteBuffer.allocate(64)));
+    }
+
+    @Test
+    void signalsOverflowWithoutWrapping() {
+        References event = new References(NOW, "x".repeat(100), null, null, null, null, null);
+
+        assertThrows(BufferOverflowException.class,
+                () -> new BinaryEventCodec().encode(event, ByteBuffer.allocate(64)));
+    }
+
+    @Test
+    void signalsOverflowAtEveryBufferSize() {
+        BinaryEventCodec codec = new BinaryEventCodec();
+        References event = new References(NOW, "text", new byte[]{1}, null, null, Color.RED, new Point(1, 2, "p"));
+        ByteBuffer full = ByteBuffer.allocate(256);
+        codec.encode(event, full);
+
+        for (int size = 0; size < full.position(); size++) {
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            assertThrows(BufferOverflowException.class, () -> codec.encode(event, buffer));
+        }
+    }
+
+    @Test
+    void rejectsNegativeStringLength() {
+        assertMalformed(new References(NOW, "text", null, null, null, null, null), 1 + 12 + 1, -5);
+    }
+
+    @Test
+    void rejectsNegativeByteArrayLength() {
+        assertMalformed(new References(null, null, new byte[]{1, 2}, null, null, null, null), 1 + 1 + 1, -1);
+    }
+
+    @Test
+    void rejectsOversizedLengthPrefix() {
+        assertMalformed(new References(NOW, "text", null, null, null, null, null), 1 + 12 + 1, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void rejectsTruncatedInput() {
+        BinaryEventCodec codec = new BinaryEventCodec();
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        codec.encode(new Primitives(NOW, 1, 2, true, (byte) 3, (short) 4, 'z', 5F, 6D), buffer);
+        buffer.flip();
+
+        for (int limit = 0; limit < buffer.limit(); limit++) {
+            ByteBuffer truncated = buffer.duplicate().limit(limit);
+            assertThrows(EventProcessException.class, () -> codec.decode(truncated));
+        }
+    }
+
+    @Test
+    void reportsThroughput() {
+        BinaryEventCodec codec = new BinaryEventCodec();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        Outer event = new Outer(NOW, new Point(1, 2, "first"), new Point(3, 4, "second"));
+        int iterations = 200_000;
+
+        for (int i = 0; i < iterations; i++) {
+            codec.encode(event, buffer.clear());
+            codec.decode(buffer.flip());
+        }
+
+        Event decoded = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            codec.encode(event, buffer.clear());
+            decoded = codec.decode(buffer.flip());
+        }
+        double nanosPerRoundTrip = (System.nanoTime() - start) / (double) iterations;
+
+        // informational only, wall-clock bounds are too noisy for shared build machines
+        System.out.printf("BinaryEventCodec round trip: %.1f ns, %.0f events/s%n",
+                nanosPerRoundTrip, 1e9 / nanosPerRoundTrip);
+        assertEquals(event, decoded);
+    }
+
+    // ==================== Internal Methods ====================
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> E roundTrip(final E event, final ByteBuffer buffer) {
+        BinaryEventCodec codec = new BinaryEventCodec();
+        codec.encode(event, buffer);
+        buffer.flip();
+
+        E decoded = (E) codec.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+
+    private static ByteBuffer[] buffers() {
+        return new ByteBuffer[]{ByteBuffer.allocate(512), ByteBuffer.allocateDirect(512)};
+    }
+
+    private static int typeId(final Class<?> type) {
+        return type.getName().hashCode();
+    }
+
+    /**
+     * Encodes the event and overwrites the 4 byte length prefix at the given payload offset.
+     */
+    private static void assertMalformed(final Event event, final int payloadOffset, final int length) {
+        BinaryEventCodec codec = new BinaryEventCodec();
+
+        for (ByteBuffer buffer : buffers()) {
+            codec.encode(event, buffer);
+            buffer.flip();
+            buffer.putInt(10 + payloadOffset, length);
+
+            assertThrows(EventProcessException.class, () -> codec.decode(buffer));
+        }
+    }
+
+}
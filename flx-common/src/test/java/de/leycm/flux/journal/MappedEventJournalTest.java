@@ -0,0 +1,152 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.journal;
+
+import de.leycm.flux.codec.BinaryEventCodec;
+import de.leycm.flux.event.Event;
+import de.leycm.flux.exception.EventProcessException;
+import de.leycm.flux.handler.Handler;
+import de.leycm.flux.handler.HandlerList;
+import de.leycm.flux.registry.HashEventExecutorBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedEventJournalTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    private HashEventExecutorBus bus;
+    private Recorder recorder;
+    private Thread.UncaughtExceptionHandler handler;
+    private final List<Throwable> reported = new ArrayList<>();
+
+    record Note(Instant timestamp, String text) implements Event { }
+
+    public static class Recorder implements HandlerList {
+
+        private final List<Note> notes = new ArrayList<>();
+
+        @Handler
+        public void onNote(final Note note) {
+            notes.add(note);
+        }
+
+    }
+
+    @BeforeEach
+    void setUp() {
+        bus = new HashEventExecutorBus();
+        recorder = new Recorder();
+        bus.register(recorder);
+
+        handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> reported.add(e));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Thread.currentThread().setUncaughtExceptionHandler(handler);
+        bus.close();
+    }
+
+    @Test
+    void attachesToBusAndReplays() throws IOException {
+        try (MappedEventJournal journal = open(3)) {
+            for (int i = 0; i < 20; i++) bus.fire(note("note-" + i));
+
+            assertEquals(20, journal.nextSequence());
+            assertTrue(segments().size() > 1);
+
+            HashEventExecutorBus target = new HashEventExecutorBus();
+            Recorder replayed = new Recorder();
+            target.register(replayed);
+
+            long count = journal.replay(target, journal.firstSequence(), journal.nextSequence());
+            assertEquals(count, replayed.notes.size());
+            assertEquals("note-19", replayed.notes.get(replayed.notes.size() - 1).text());
+        }
+    }
+
+    @Test
+    void rejectsOversizedEventWithoutRolling() throws IOException {
+        try (MappedEventJournal journal = open(1)) {
+            assertThrows(EventProcessException.class, () -> journal.append(note("x".repeat(SEGMENT_SIZE))));
+
+            for (int i = 0; i < 3; i++) journal.append(note("note-" + i));
+
+            assertEquals(List.of(directory.resolve("journal-00000000000000000000.flx")), segments());
+            assertEquals(3, journal.nextSequence());
+        }
+
+        try (MappedEventJournal reopened = open(1)) {
+            assertEquals(3, reopened.nextSequence());
+        }
+    }
+
+    @Test
+    void keepsDispatchingEventsItCannotJournal() throws IOException {
+        try (MappedEventJournal journal = open(2)) {
+            bus.fire(note("x".repeat(SEGMENT_SIZE)));
+            bus.fire(note("small"));
+
+            assertEquals(2, recorder.notes.size());
+            assertEquals(1, journal.getDroppedCount());
+            assertEquals(1, reported.size());
+            assertEquals(1, journal.nextSequence());
+        }
+    }
+
+    @Test
+    void detachesOnClose() throws IOException {
+        MappedEventJournal journal = open(2);
+        bus.fire(note("before"));
+        journal.close();
+
+        bus.fire(note("after"));
+
+        assertEquals(2, recorder.notes.size());
+        assertThrows(EventProcessException.class, () -> journal.append(note("closed")));
+    }
+
+    // ==================== Internal Methods ====================
+
+    private MappedEventJournal open(final int retainedSegments) throws IOException {
+        return new MappedEventJournal(bus, new BinaryEventCodec(), directory,
+                SEGMENT_SIZE, retainedSegments, Duration.ofMillis(10));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static Note note(final String text) {
+        return new Note(Instant.EPOCH, text);
+    }
+
+}
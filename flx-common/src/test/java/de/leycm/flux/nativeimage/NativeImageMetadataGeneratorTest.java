@@ -0,0 +1,206 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.nativeimage;
+
+import de.leycm.flux.codec.BinaryEventCodec;
+import de.leycm.flux.event.Event;
+import de.leycm.flux.handler.Handler;
+import de.leycm.flux.handler.HandlerList;
+import de.leycm.flux.registry.HashEventExecutorBus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeImageMetadataGeneratorTest {
+
+    private static final String PREFIX = NativeImageMetadataGeneratorTest.class.getName() + "$";
+    private static final Instant NOW = Instant.parse("2024-05-01T12:30:45Z");
+
+    @TempDir
+    Path output;
+
+    enum Mode { FAST, SAFE }
+
+    record Detail(int level, Mode mode) { }
+
+    record SampleEvent(Instant timestamp, String name, Detail detail) implements Event { }
+
+    public static class SampleList implements HandlerList {
+
+        private final List<SampleEvent> received = new ArrayList<>();
+
+        @Handler
+        public void onSample(final SampleEvent event) {
+            received.add(event);
+        }
+
+        public void helper(final SampleEvent event) { }
+
+    }
+
+    public abstract static class AbstractList implements HandlerList {
+
+        @Handler
+        public void onAbstract(final SampleEvent event) { }
+
+    }
+
+    @Test
+    void firesThroughBusAndCodec() {
+        // also runs as a native image with -PnativeTest, where it only passes with the generated metadata
+        HashEventExecutorBus bus = new HashEventExecutorBus();
+        SampleList list = new SampleList();
+        bus.register(list);
+
+        BinaryEventCodec codec = new BinaryEventCodec();
+        SampleEvent event = new SampleEvent(NOW, "sample", new Detail(3, Mode.SAFE));
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        codec.encode(event, buffer);
+        bus.fire(codec.decode(buffer.flip()));
+        bus.close();
+
+        assertEquals(List.of(event), list.received);
+    }
+
+    @Test
+    @DisabledInNativeImage
+    void registersEveryMemberBusAndCodecReflectOn() throws IOException, URISyntaxException {
+        String json = Files.readString(NativeImageMetadataGenerator.generate(output, List.of(testClasses())),
+                StandardCharsets.UTF_8);
+
+        // HashEventExecutorBus queries the declared methods and invokes every @Handler method
+        assertTrue(entry(json, "SampleList").contains("\"queryAllDeclaredMethods\": true"));
+        Set<Class<?>> valueTypes = new LinkedHashSet<>();
+        for (Method method : SampleList.class.getDeclaredMethods()) {
+            if (!method.isAnnotationPresent(Handler.class)) continue;
+
+            assertRegistered(json, SampleList.class, method.getName(), method.getParameterTypes());
+            for (Class<?> parameter : method.getParameterTypes()) collectValueTypes(parameter, valueTypes);
+        }
+
+        // BinaryEventCodec unreflects record accessors and canonical constructors and reads enum constants
+        assertEquals(Set.of(SampleEvent.class, Detail.class, Mode.class), valueTypes);
+        for (Class<?> type : valueTypes) {
+            if (type.isEnum()) {
+                assertRegistered(json, type, "values");
+                continue;
+            }
+
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+                assertRegistered(json, type, components[i].getAccessor().getName());
+            }
+            assertRegistered(json, type, "<init>", parameterTypes);
+        }
+    }
+
+    @Test
+    @DisabledInNativeImage
+    void registersHandlerListAndItsEvents() throws IOException, URISyntaxException {
+        Path file = NativeImageMetadataGenerator.generate(output, List.of(testClasses()));
+
+        assertEquals(output.resolve(NativeImageMetadataGenerator.FILE_NAME), file);
+        String json = Files.readString(file, StandardCharsets.UTF_8);
+
+        String list = entry(json, "SampleList");
+        assertTrue(list.contains("\"queryAllDeclaredMethods\": true"), list);
+        assertTrue(list.contains(method("onSample", PREFIX + "SampleEvent")), list);
+        assertFalse(list.contains("\"helper\""), list);
+
+        String event = entry(json, "SampleEvent");
+        assertTrue(event.contains(method("timestamp")), event);
+        assertTrue(event.contains(method("name")), event);
+        assertTrue(event.contains(method("detail")), event);
+        assertTrue(event.contains(method("<init>", "java.time.Instant", "java.lang.String", PREFIX + "Detail")), event);
+
+        String detail = entry(json, "Detail");
+        assertTrue(detail.contains(method("<init>", "int", PREFIX + "Mode")), detail);
+
+        assertTrue(entry(json, "Mode").contains(method("values")));
+        assertFalse(json.contains(PREFIX + "AbstractList"));
+    }
+
+    @Test
+    @DisabledInNativeImage
+    void failsOnUnloadableClasses() throws IOException, URISyntaxException {
+        Path broken = Files.createDirectories(output.resolve("classes/sample"));
+        Files.write(broken.resolve("Broken.class"), new byte[]{1, 2, 3});
+
+        IOException failure = assertThrows(IOException.class, () -> NativeImageMetadataGenerator.generate(
+                output.resolve("out"), List.of(testClasses(), output.resolve("classes"))));
+
+        assertTrue(failure.getMessage().contains("sample.Broken"), failure.getMessage());
+        assertFalse(Files.exists(output.resolve("out").resolve(NativeImageMetadataGenerator.FILE_NAME)));
+    }
+
+    @Test
+    @DisabledInNativeImage
+    void failsWithoutHandlerLists() throws IOException {
+        Path empty = Files.createDirectories(output.resolve("empty"));
+
+        assertThrows(IOException.class, () -> NativeImageMetadataGenerator.generate(output, List.of(empty)));
+    }
+
+    // ==================== Internal Methods ====================
+
+    private static Path testClasses() throws URISyntaxException {
+        return Path.of(SampleList.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    private static void collectValueTypes(final Class<?> type, final Set<Class<?>> types) {
+        if (type.isEnum()) {
+            types.add(type);
+        } else if (type.isRecord() && types.add(type)) {
+            for (RecordComponent component : type.getRecordComponents()) collectValueTypes(component.getType(), types);
+        }
+    }
+
+    private static void assertRegistered(final String json, final Class<?> type,
+                                         final String name, final Class<?>... parameterTypes) {
+        String[] names = new String[parameterTypes.length];
+        for (int i = 0; i < names.length; i++) names[i] = parameterTypes[i].getTypeName();
+
+        String entry = entry(json, type.getName().substring(PREFIX.length()));
+        assertTrue(entry.contains(method(name, names)), "Missing " + name + " in\n" + entry);
+    }
+
+    private static String entry(final String json, final String simpleName) {
+        int start = json.indexOf("\"name\": \"" + PREFIX + simpleName + "\"");
+        assertTrue(start >= 0, "Missing entry for " + simpleName + " in\n" + json);
+
+        int end = json.indexOf("\n  }", start);
+        return json.substring(start, end);
+    }
+
+    private static String method(final String name, final String... parameterTypes) {
+        String types = parameterTypes.length == 0 ? "" : "\"" + String.join("\", \"", parameterTypes) + "\"";
+        return "{ \"name\": \"" + name + "\", \"parameterTypes\": [" + types + "] }";
+    }
+
+}
@@ -0,0 +1,195 @@
+/**
+ * LECP-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the LECP-LICENSE. <br>
+ * License at: <a href="https://github.com/leycm/leycm/blob/main/LICENSE">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <a href="mailto:leycm@proton.me">leycm@proton.me</a>  <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package de.leycm.flux.registry;
+
+import de.leycm.flux.event.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1_000L;
+    private static final long START = 5_000_000L;
+    private static final long RANGE = 1L << 24;
+    private static final Event EVENT = () -> Instant.EPOCH;
+
+    private final AtomicLong clock = new AtomicLong(START);
+    private final List<Long> fired = new ArrayList<>();
+    private TimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        clock.set(START);
+        fired.clear();
+        wheel = new TimingWheel(TICK, clock::get, false);
+    }
+
+    @Test
+    void firesOnDeadlinesAcrossLevelBoundaries() {
+        assertFiresExactly(0);
+    }
+
+    @Test
+    void firesOnDeadlinesAcrossLevelBoundariesFromUnalignedTick() {
+        advanceTo(12_345);
+        assertFiresExactly(12_345);
+    }
+
+    @Test
+    void firesExpiredDeadlinesOnNextTick() {
+        schedule(0);
+        schedule(-5);
+        advanceTo(0);
+
+        assertEquals(List.of(0L, 0L), fired);
+    }
+
+    @Test
+    void cancelsBeforePlacement() {
+        TimingWheel.Timeout timeout = schedule(10);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        advanceTo(20);
+
+        assertTrue(fired.isEmpty());
+        assertTrue(timeout.isCancelled());
+        assertTrue(timeout.isDone());
+    }
+
+    @Test
+    void cancelsAfterPlacement() {
+        TimingWheel.Timeout timeout = schedule(100);
+        advanceTo(1);
+
+        assertTrue(timeout.cancel());
+        advanceTo(200);
+
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    void cancelsAfterCascade() {
+        TimingWheel.Timeout cancelled = schedule(5_000);
+        TimingWheel.Timeout kept = schedule(5_001);
+        advanceTo(4_200);
+
+        assertTrue(cancelled.cancel());
+        advanceTo(5_001);
+
+        assertEquals(List.of(5_001L), fired);
+        assertTrue(kept.isDone());
+        assertFalse(kept.isCancelled());
+    }
+
+    @Test
+    void doesNotCancelFiredTimeouts() {
+        TimingWheel.Timeout timeout = schedule(3);
+        advanceTo(3);
+
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isDone());
+        assertFalse(timeout.isCancelled());
+    }
+
+    @Test
+    void placesRelativeToCurrentTimeAfterIdling() {
+        advanceTo(0);
+
+        // replaying every idle tick would take hours, placement must start from the current tick
+        long idle = 1L << 40;
+        clock.set(START + idle * TICK);
+        schedule(100);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            advanceTo(idle + 99);
+            assertTrue(fired.isEmpty());
+            advanceTo(idle + 100);
+        });
+        assertEquals(List.of(idle + 100), fired);
+    }
+
+    @Test
+    void closeCancelsPendingTimeouts() {
+        TimingWheel.Timeout placed = schedule(10);
+        advanceTo(1);
+        TimingWheel.Timeout queued = schedule(10);
+
+        wheel.close();
+
+        assertTrue(placed.isCancelled());
+        assertTrue(queued.isCancelled());
+        assertTrue(schedule(1).isCancelled());
+        advanceTo(20);
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    void closeStopsTickerThread() throws InterruptedException {
+        TimingWheel ticking = new TimingWheel(TimeUnit.MILLISECONDS.toNanos(1));
+        CountDownLatch latch = new CountDownLatch(1);
+
+        ticking.schedule(EVENT, latch::countDown, TimeUnit.MILLISECONDS.toNanos(5));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        TimingWheel.Timeout pending = ticking.schedule(EVENT, () -> fail("fired after close"),
+                TimeUnit.SECONDS.toNanos(10));
+        ticking.close();
+
+        assertTrue(pending.isCancelled());
+        assertTrue(ticking.schedule(EVENT, () -> { }, 0).isCancelled());
+    }
+
+    // ==================== Internal Methods ====================
+
+    private void assertFiresExactly(final long origin) {
+        long[] deltas = {1, 63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_144, 262_145,
+                RANGE - 1, RANGE, RANGE + 12_345, 2 * RANGE + 7};
+
+        Map<Long, TimingWheel.Timeout> timeouts = new LinkedHashMap<>();
+        for (long delta : deltas) timeouts.put(origin + delta, schedule(delta));
+
+        int expected = 0;
+        for (Map.Entry<Long, TimingWheel.Timeout> entry : timeouts.entrySet()) {
+            long deadline = entry.getKey();
+
+            advanceTo(deadline - 1);
+            assertEquals(expected, fired.size(), "Fired before tick " + deadline);
+            assertFalse(entry.getValue().isDone());
+
+            advanceTo(deadline);
+            assertEquals(++expected, fired.size(), "Not fired at tick " + deadline);
+            assertEquals(deadline, fired.get(fired.size() - 1).longValue());
+        }
+    }
+
+    private TimingWheel.Timeout schedule(final long ticks) {
+        return wheel.schedule(EVENT, () -> fired.add((clock.get() - START) / TICK), ticks * TICK);
+    }
+
+    private void advanceTo(final long tick) {
+        clock.set(START + tick * TICK);
+        wheel.tick();
+    }
+
+}